@@ -0,0 +1,161 @@
+package com.luxoft.atm.domain.model.atm;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.atm.withdrawal.GreedyWithdrawalStrategy;
+import com.luxoft.atm.domain.model.atm.withdrawal.MinimalNotesWithdrawalStrategy;
+import com.luxoft.atm.domain.model.atm.withdrawal.WithdrawalStrategy;
+import com.luxoft.atm.domain.model.banknote.Banknote;
+import com.luxoft.atm.domain.model.banknote.BanknotesBox;
+import com.luxoft.atm.domain.model.banknote.Box;
+import com.luxoft.atm.domain.model.banknote.CountingBanknotesBox;
+import com.luxoft.atm.domain.model.banknote.DefaultBanknotesBox;
+import com.luxoft.atm.domain.model.banknote.SerialTrackingBanknotesBox;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * ATMBenchmarkFixture class <br>
+ * Builds ATMs for benchmarks, so every implementation is measured on the same banknotes
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public final class ATMBenchmarkFixture {
+    /**
+     * A {@link BanknotesBox} implementation
+     */
+    public enum BoxType {
+        DEFAULT,
+        COUNTING,
+        SERIAL_TRACKING
+    }
+
+    /**
+     * An {@link ATM} implementation
+     */
+    public enum ATMType {
+        DEFAULT,
+        CONCURRENT
+    }
+
+    /**
+     * A {@link WithdrawalStrategy} implementation
+     */
+    public enum StrategyType {
+        GREEDY(GreedyWithdrawalStrategy::new),
+        MINIMAL_NOTES(MinimalNotesWithdrawalStrategy::new);
+
+        private final Supplier<WithdrawalStrategy> factory;
+
+        StrategyType(Supplier<WithdrawalStrategy> factory) {
+            this.factory = factory;
+        }
+    }
+
+    /**
+     * Denominations of ATM banknote boxes
+     */
+    public enum Mix {
+        ALL(EnumSet.allOf(Denomination.class)),
+        SMALL(EnumSet.of(Denomination.DENOMINATION_50, Denomination.DENOMINATION_100, Denomination.DENOMINATION_500)),
+        LARGE(EnumSet.of(Denomination.DENOMINATION_1000, Denomination.DENOMINATION_2000, Denomination.DENOMINATION_5000));
+
+        private final Set<Denomination> denominations;
+
+        Mix(Set<Denomination> denominations) {
+            this.denominations = denominations;
+        }
+    }
+
+    private ATMBenchmarkFixture() {
+    }
+
+    /**
+     * Builds an enabled ATM
+     *
+     * @param atmType      an ATM implementation
+     * @param boxType      a banknotes box implementation
+     * @param mix          denominations of banknote boxes
+     * @param notesPerBox  a count of banknotes in every banknotes box
+     * @param strategyType a withdrawal strategy
+     * @return an ATM
+     */
+    public static ATM newATM(ATMType atmType, BoxType boxType, Mix mix, int notesPerBox, StrategyType strategyType) {
+        var box = newBox(boxType, mix, notesPerBox);
+        var withdrawalStrategy = strategyType.factory.get();
+
+        if (atmType == ATMType.CONCURRENT) {
+            return ConcurrentATM.builder()
+                .box(box)
+                .enabled(true)
+                .withdrawalStrategy(withdrawalStrategy)
+                .build();
+        }
+
+        return DefaultATM.builder()
+            .box(box)
+            .enabled(true)
+            .withdrawalStrategy(withdrawalStrategy)
+            .build();
+    }
+
+    /**
+     * Builds a box with one banknotes box per denomination
+     *
+     * @param boxType     a banknotes box implementation
+     * @param mix         denominations of banknote boxes
+     * @param notesPerBox a count of banknotes in every banknotes box
+     * @return a box
+     */
+    public static Box newBox(BoxType boxType, Mix mix, int notesPerBox) {
+        Set<BanknotesBox> banknoteBoxes = new HashSet<>();
+        for (var denomination : mix.denominations) {
+            banknoteBoxes.add(newBanknotesBox(boxType, denomination, notesPerBox));
+        }
+
+        return Box.builder()
+            .banknoteBoxes(banknoteBoxes)
+            .build();
+    }
+
+    private static BanknotesBox newBanknotesBox(BoxType boxType, Denomination denomination, int notesPerBox) {
+        switch (boxType) {
+            case COUNTING:
+                return CountingBanknotesBox.builder()
+                    .denomination(denomination)
+                    .count(notesPerBox)
+                    .build();
+
+            case SERIAL_TRACKING:
+                var trackingBox = SerialTrackingBanknotesBox.builder()
+                    .banknotesBox(CountingBanknotesBox.builder().denomination(denomination).build())
+                    .build();
+
+                trackingBox.takeAll(newBanknotes(denomination, notesPerBox));
+                return trackingBox;
+
+            default:
+                var defaultBox = DefaultBanknotesBox.builder()
+                    .denomination(denomination)
+                    .build();
+
+                defaultBox.takeAll(newBanknotes(denomination, notesPerBox));
+                return defaultBox;
+        }
+    }
+
+    private static List<Banknote> newBanknotes(Denomination denomination, int count) {
+        List<Banknote> banknotes = new ArrayList<>(count);
+        for (var i = 0; i < count; i++) {
+            banknotes.add(Banknote.builder().denomination(denomination).build());
+        }
+
+        return banknotes;
+    }
+}
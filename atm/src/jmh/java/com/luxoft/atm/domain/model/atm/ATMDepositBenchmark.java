@@ -0,0 +1,75 @@
+package com.luxoft.atm.domain.model.atm;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.atm.ATMBenchmarkFixture.ATMType;
+import com.luxoft.atm.domain.model.atm.ATMBenchmarkFixture.BoxType;
+import com.luxoft.atm.domain.model.atm.ATMBenchmarkFixture.Mix;
+import com.luxoft.atm.domain.model.atm.ATMBenchmarkFixture.StrategyType;
+import com.luxoft.atm.domain.model.banknote.Banknote;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ATMDepositBenchmark class <br>
+ * Measures {@link ATM#take(Banknote)} and {@link ATM#takeAll(java.util.Collection)} for every ATM
+ * and banknotes box implementation <br>
+ * Deposited banknotes stay in the ATM, so every iteration starts with a new ATM and makes a fixed batch
+ * of deposits: a result is the time of the whole batch and the stock cannot grow without bound
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = ATMDepositBenchmark.DEPOSITS_PER_ITERATION)
+@Measurement(iterations = 20, batchSize = ATMDepositBenchmark.DEPOSITS_PER_ITERATION)
+@Fork(1)
+public class ATMDepositBenchmark {
+    static final int DEPOSITS_PER_ITERATION = 10_000;
+
+    private static final int NOTES_PER_BOX = 1000;
+    private static final int BANKNOTES_PER_DEPOSIT = 100;
+
+    @Param({"DEFAULT", "CONCURRENT"})
+    private ATMType atmType;
+
+    @Param({"DEFAULT", "COUNTING", "SERIAL_TRACKING"})
+    private BoxType boxType;
+
+    private ATM atm;
+
+    private Banknote banknote;
+    private List<Banknote> banknotes;
+
+    @Setup(Level.Trial)
+    public void setUpBanknotes() {
+        var denominations = Denomination.values();
+
+        banknote = Banknote.builder().denomination(Denomination.DENOMINATION_1000).build();
+        banknotes = new ArrayList<>(BANKNOTES_PER_DEPOSIT);
+        for (var i = 0; i < BANKNOTES_PER_DEPOSIT; i++) {
+            banknotes.add(Banknote.builder().denomination(denominations[i % denominations.length]).build());
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        atm = ATMBenchmarkFixture.newATM(atmType, boxType, Mix.ALL, NOTES_PER_BOX, StrategyType.GREEDY);
+    }
+
+    @Benchmark
+    public ATM take() {
+        atm.take(banknote);
+        return atm;
+    }
+
+    @Benchmark
+    public List<Banknote> takeAll() {
+        return atm.takeAll(banknotes);
+    }
+}
@@ -0,0 +1,96 @@
+package com.luxoft.atm.domain.model.atm;
+
+import com.luxoft.atm.domain.model.atm.ATMBenchmarkFixture.ATMType;
+import com.luxoft.atm.domain.model.atm.ATMBenchmarkFixture.BoxType;
+import com.luxoft.atm.domain.model.atm.ATMBenchmarkFixture.Mix;
+import com.luxoft.atm.domain.model.atm.ATMBenchmarkFixture.StrategyType;
+import com.luxoft.atm.domain.model.banknote.Box;
+import org.apache.commons.lang3.SerializationUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ATMHistoryBenchmark class <br>
+ * Measures {@link ATM#backup()} and {@link ATM#restore()} with copy-on-write snapshots against a deep copy
+ * of the box by {@link SerializationUtils#clone}, which is how backups were taken before <br>
+ * The deep copy does not depend on an ATM, so it has its own state without the ATM implementation parameter
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ATMHistoryBenchmark {
+    private static final int SUM = 100;
+
+    /**
+     * A box of banknote boxes of every denomination
+     */
+    @State(Scope.Thread)
+    public static class BoxState {
+        @Param({"DEFAULT", "COUNTING", "SERIAL_TRACKING"})
+        private BoxType boxType;
+
+        @Param({"10", "1000", "100000"})
+        private int notesPerBox;
+
+        private Box box;
+
+        @Setup
+        public void setUp() {
+            box = ATMBenchmarkFixture.newBox(boxType, Mix.ALL, notesPerBox);
+        }
+    }
+
+    /**
+     * An ATM with banknote boxes of every denomination
+     */
+    @State(Scope.Thread)
+    public static class ATMState {
+        @Param({"DEFAULT", "CONCURRENT"})
+        private ATMType atmType;
+
+        @Param({"DEFAULT", "COUNTING", "SERIAL_TRACKING"})
+        private BoxType boxType;
+
+        @Param({"10", "1000", "100000"})
+        private int notesPerBox;
+
+        private ATM atm;
+
+        @Setup
+        public void setUp() {
+            atm = ATMBenchmarkFixture.newATM(atmType, boxType, Mix.ALL, notesPerBox, StrategyType.GREEDY);
+        }
+    }
+
+    @Benchmark
+    public int backupAndRestore(ATMState state) {
+        state.atm.backup();
+        state.atm.restore();
+
+        return state.atm.getBalance();
+    }
+
+    /**
+     * A withdrawal after a backup copies the changed banknotes box, so this is the full cost of a snapshot
+     */
+    @Benchmark
+    public int backupGiveAndRestore(ATMState state) {
+        state.atm.backup();
+        state.atm.give(SUM);
+        state.atm.restore();
+
+        return state.atm.getBalance();
+    }
+
+    @Benchmark
+    public Box serializationClone(BoxState state) {
+        return SerializationUtils.clone(state.box);
+    }
+}
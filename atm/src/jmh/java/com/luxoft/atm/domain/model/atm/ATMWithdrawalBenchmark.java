@@ -0,0 +1,95 @@
+package com.luxoft.atm.domain.model.atm;
+
+import com.luxoft.atm.domain.model.atm.ATMBenchmarkFixture.ATMType;
+import com.luxoft.atm.domain.model.atm.ATMBenchmarkFixture.BoxType;
+import com.luxoft.atm.domain.model.atm.ATMBenchmarkFixture.Mix;
+import com.luxoft.atm.domain.model.atm.ATMBenchmarkFixture.StrategyType;
+import com.luxoft.atm.domain.model.banknote.Banknote;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ATMWithdrawalBenchmark class <br>
+ * Measures {@link ATM#give(int)} on its success and failure paths and {@link ATM#getBalance()}
+ * for every ATM implementation and withdrawal strategy <br>
+ * A successful withdrawal is measured together with depositing the banknotes back, so the ATM stock
+ * does not run out during an iteration. Boxes are counting ones with a fixed stock, banknotes box
+ * implementations and stock sizes are compared by {@link ATMDepositBenchmark} and {@link ATMHistoryBenchmark}
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ATMWithdrawalBenchmark {
+    private static final int NOTES_PER_BOX = 1000;
+
+    // every denomination is a multiple of 50, so a mistyped sum like this cannot be given by any combination
+    private static final int INCORRECT_SUM = 1030;
+
+    @Param({"DEFAULT", "CONCURRENT"})
+    private ATMType atmType;
+
+    @Param({"ALL", "SMALL", "LARGE"})
+    private Mix mix;
+
+    @Param({"GREEDY", "MINIMAL_NOTES"})
+    private StrategyType strategyType;
+
+    private ATM atm;
+    private int insufficientSum;
+
+    /**
+     * A sum of a successful withdrawal, only the success path depends on it
+     */
+    @State(Scope.Thread)
+    public static class Withdrawal {
+        // both sums can be given by every mix
+        @Param({"1000", "6000"})
+        private int sum;
+    }
+
+    @Setup
+    public void setUp() {
+        atm = ATMBenchmarkFixture.newATM(atmType, BoxType.COUNTING, mix, NOTES_PER_BOX, strategyType);
+        insufficientSum = atm.getBalance() + 50;
+    }
+
+    @Benchmark
+    public List<Banknote> giveAndTakeAll(Withdrawal withdrawal) {
+        var banknotes = atm.give(withdrawal.sum);
+        return atm.takeAll(banknotes);
+    }
+
+    @Benchmark
+    public ATMException giveWhenSumIsIncorrect() {
+        try {
+            atm.give(INCORRECT_SUM);
+            throw new IllegalStateException(String.format("The %d sum must not be given", INCORRECT_SUM));
+        } catch (ATMIncorrectSumException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ATMException giveWhenBalanceIsInsufficient() {
+        try {
+            atm.give(insufficientSum);
+            throw new IllegalStateException(String.format("The %d sum must not be given", insufficientSum));
+        } catch (ATMInsufficientBalanceException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public int getBalance() {
+        return atm.getBalance();
+    }
+}
@@ -0,0 +1,97 @@
+package com.luxoft.atm.io;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.banknote.Banknote;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * JournaledATMBenchmark class <br>
+ * Measures {@link JournaledATM} operations with the ledger on the disk: a deposit is committed with its group,
+ * while a withdrawal is committed right away, so it costs at least one fsync <br>
+ * Every iteration gets a new ledger directory, so a deposited stock and the log do not grow across iterations
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournaledATMBenchmark {
+    private static final int NOTES_PER_BOX = 1000;
+    private static final int SUM = 600;
+
+    // 1 commits every record, so it shows what a group commit saves
+    @Param({"1", "256"})
+    private int groupSize;
+
+    private Path directory;
+    private JournaledATM atm;
+
+    private Banknote banknote;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("atm-ledger");
+
+        var ledger = ATMLedger.open(
+            directory,
+            groupSize,
+            ATMLedger.DEFAULT_MAX_COMMIT_DELAY_NANOS,
+            ATMLedger.DEFAULT_CHECKPOINT_INTERVAL
+        );
+
+        atm = JournaledATM.open(ledger, EnumSet.allOf(Denomination.class), 0);
+
+        List<Banknote> banknotes = new ArrayList<>();
+        for (var denomination : Denomination.values()) {
+            for (var i = 0; i < NOTES_PER_BOX; i++) {
+                banknotes.add(Banknote.builder().denomination(denomination).build());
+            }
+        }
+
+        atm.takeAll(banknotes);
+        atm.commit();
+
+        banknote = Banknote.builder().denomination(Denomination.DENOMINATION_50).build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        atm.close();
+
+        try (var paths = Files.walk(directory)) {
+            for (var path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public JournaledATM take() {
+        atm.take(banknote);
+        return atm;
+    }
+
+    /**
+     * Banknotes are deposited back, so the stock does not run out during an iteration
+     */
+    @Benchmark
+    public List<Banknote> giveAndTakeAll() {
+        var banknotes = atm.give(SUM);
+        return atm.takeAll(banknotes);
+    }
+}
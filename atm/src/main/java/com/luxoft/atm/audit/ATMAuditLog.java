@@ -0,0 +1,163 @@
+package com.luxoft.atm.audit;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.atm.ATM;
+import com.luxoft.atm.domain.model.banknote.Banknote;
+import com.luxoft.atm.metrics.ATMMetrics.Operation;
+import com.luxoft.atm.metrics.ATMMetrics.Outcome;
+import lombok.Builder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ATMAuditLog class <br>
+ * Writes one summary record per money movement to the "com.luxoft.atm.audit" logger:
+ * a count of banknotes per denomination and a total instead of every banknote, so the audit trail
+ * is complete while the cost of a record does not depend on the banknote UUIDs <br>
+ * Per-banknote detail is off by default. When it is switched on, only every n-th operation
+ * (a sampling rate) gets an extra detail record <br>
+ * Thread-safe
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ATMAuditLog {
+    private static final Logger logger = LoggerFactory.getLogger("com.luxoft.atm.audit");
+
+    private final boolean detailed;
+    private final int detailSamplingRate;
+
+    private final AtomicLong operationsCount = new AtomicLong();
+
+    @Builder
+    private ATMAuditLog(boolean detailed, int detailSamplingRate) throws IllegalArgumentException {
+        if (detailSamplingRate < 0) {
+            throw new IllegalArgumentException("Detail sampling rate must not be negative");
+        }
+
+        this.detailed = detailed;
+        this.detailSamplingRate = detailSamplingRate == 0 ? 1 : detailSamplingRate;
+    }
+
+    /**
+     * Writes a record of a deposit
+     *
+     * @param atm       an ATM
+     * @param banknotes deposited banknotes (including rejected ones)
+     * @param rejected  banknotes which were given back
+     */
+    public void deposited(ATM atm, Collection<? extends Banknote> banknotes, Collection<? extends Banknote> rejected) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+
+        logger.info("op=DEPOSIT atm={} outcome=SUCCESS {} rejected={}", atm.getUuid(), summarize(banknotes), rejected.size());
+
+        if (sampled()) {
+            logger.info("op=DEPOSIT atm={} banknotes={} rejected={}", atm.getUuid(), banknotes, rejected);
+        }
+    }
+
+    /**
+     * Writes a record of a withdrawal
+     *
+     * @param atm       an ATM
+     * @param sum       a requested sum
+     * @param banknotes given banknotes
+     */
+    public void withdrawn(ATM atm, int sum, Collection<? extends Banknote> banknotes) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+
+        logger.info("op=WITHDRAW atm={} sum={} outcome=SUCCESS {}", atm.getUuid(), sum, summarize(banknotes));
+
+        if (sampled()) {
+            logger.info("op=WITHDRAW atm={} banknotes={}", atm.getUuid(), banknotes);
+        }
+    }
+
+    /**
+     * Writes a record of an operation with a sum which did not move money
+     *
+     * @param operation an operation
+     * @param atm       an ATM
+     * @param sum       a requested sum
+     * @param outcome   an outcome
+     */
+    public void rejected(Operation operation, ATM atm, int sum, Outcome outcome) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+
+        logger.info("op={} atm={} sum={} outcome={}", operation, atm.getUuid(), sum, outcome);
+    }
+
+    /**
+     * Writes a record of an operation with banknotes which did not move money
+     *
+     * @param operation an operation
+     * @param atm       an ATM
+     * @param banknotes offered banknotes
+     * @param outcome   an outcome
+     */
+    public void rejected(Operation operation, ATM atm, Collection<? extends Banknote> banknotes, Outcome outcome) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+
+        logger.info("op={} atm={} outcome={} {}", operation, atm.getUuid(), outcome, summarize(banknotes));
+    }
+
+    /**
+     * Builds a summary of banknotes like "notes=3 total=2200 counts=2000x1,100x2"
+     *
+     * @param banknotes banknotes
+     * @return a summary
+     */
+    static String summarize(Collection<? extends Banknote> banknotes) {
+        var counts = new int[Denomination.COUNT];
+        var total = 0L;
+        for (var banknote : banknotes) {
+            var denomination = banknote.getDenomination();
+
+            counts[denomination.ordinal()]++;
+            total += denomination.toInt();
+        }
+
+        var summary = new StringBuilder()
+            .append("notes=").append(banknotes.size())
+            .append(" total=").append(total)
+            .append(" counts=");
+
+        var first = true;
+        for (var denomination : Denomination.descending()) {
+            var count = counts[denomination.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+
+            if (!first) {
+                summary.append(',');
+            }
+
+            summary.append(denomination.toInt()).append('x').append(count);
+            first = false;
+        }
+
+        return summary.toString();
+    }
+
+    /**
+     * Checks whether a current operation should get a detail record
+     *
+     * @return true if detail is on and the operation falls into the sample
+     */
+    boolean sampled() {
+        return detailed && operationsCount.incrementAndGet() % detailSamplingRate == 0;
+    }
+}
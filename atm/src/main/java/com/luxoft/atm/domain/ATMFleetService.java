@@ -0,0 +1,94 @@
+package com.luxoft.atm.domain;
+
+import com.luxoft.atm.domain.model.atm.ATM;
+import com.luxoft.atm.domain.model.atm.ATMException;
+import com.luxoft.atm.domain.model.banknote.Banknote;
+import com.luxoft.atm.domain.model.fleet.ATMNotFoundException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * ATMFleetService interface
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public interface ATMFleetService {
+    /**
+     * Registers an {@link ATM} in a region of the fleet
+     *
+     * @param atm    an ATM
+     * @param region a region of the ATM
+     */
+    void register(ATM atm, String region);
+
+    /**
+     * Unregisters an {@link ATM} from the fleet
+     *
+     * @param uuid an ATM UUID
+     * @return true if the ATM was unregistered or false if it was not found
+     */
+    boolean unregister(UUID uuid);
+
+    /**
+     * Deposits a set of {@link Banknote}s to an {@link ATM} of the fleet
+     *
+     * @param banknotes a set of banknotes
+     * @param uuid      a UUID of an ATM into where the banknotes should be deposited
+     *
+     * @return a set of non deposited banknotes
+     * @throws ATMNotFoundException if the ATM is not registered
+     */
+    Set<Banknote> deposit(Set<Banknote> banknotes, UUID uuid) throws ATMException;
+
+    /**
+     * Withdraws a sum from any {@link ATM} of the fleet which is able to give it
+     *
+     * @param sum a sum to withdraw
+     *
+     * @return a list of banknotes
+     * @throws ATMException if no ATM is able to give this sum
+     */
+    List<Banknote> withdraw(int sum) throws ATMException;
+
+    /**
+     * Gets a total balance of the fleet, it does not ask ATMs for their balances
+     *
+     * @return a total balance
+     */
+    long checkBalance();
+
+    /**
+     * Collects a total balance of all {@link ATM}s (including disabled ones) by asking every ATM in parallel,
+     * the fleet balance is reconciled with the collected one
+     *
+     * @return a total balance
+     */
+    long collectBalance();
+
+    /**
+     * Does a backup of all enabled {@link ATM}s in parallel
+     *
+     * @return a count of backed up ATMs
+     */
+    int backupAll();
+
+    /**
+     * Disables all {@link ATM}s of a region in parallel
+     *
+     * @param region a region
+     * @return a count of disabled ATMs
+     */
+    int disableRegion(String region);
+
+    /**
+     * Enables all {@link ATM}s of a region in parallel
+     *
+     * @param region a region
+     * @return a count of enabled ATMs
+     */
+    int enableRegion(String region);
+}
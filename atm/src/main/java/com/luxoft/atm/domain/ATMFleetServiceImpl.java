@@ -0,0 +1,219 @@
+package com.luxoft.atm.domain;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.atm.*;
+import com.luxoft.atm.domain.model.banknote.Banknote;
+import com.luxoft.atm.domain.model.fleet.ATMFleet;
+import com.luxoft.atm.domain.model.fleet.ATMNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * ATMFleetServiceImpl class <br>
+ * Routes withdrawals to the richest enabled ATMs of the fleet and runs fleet-wide operations
+ * in parallel on a fork-join pool
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ATMFleetServiceImpl implements ATMFleetService {
+    private static final Logger logger = LoggerFactory.getLogger(ATMFleetServiceImpl.class);
+
+    /**
+     * A max count of ATMs to try for one withdrawal, a rich ATM may still be unable to denominate a sum
+     */
+    private static final int MAX_ROUTING_ATTEMPTS = 16;
+
+    private final ATMFleet fleet;
+    private final ForkJoinPool pool;
+
+    public ATMFleetServiceImpl(ATMFleet fleet) {
+        this(fleet, ForkJoinPool.commonPool());
+    }
+
+    public ATMFleetServiceImpl(ATMFleet fleet, ForkJoinPool pool) {
+        this.fleet = fleet;
+        this.pool = pool;
+    }
+
+    @Override
+    public void register(ATM atm, String region) {
+        fleet.register(atm, region);
+        logger.info("ATM {} was registered in the \"{}\" region", atm, region);
+    }
+
+    @Override
+    public boolean unregister(UUID uuid) {
+        var unregistered = fleet.unregister(uuid);
+        if (unregistered) {
+            logger.info("ATM {} was unregistered", uuid);
+        }
+
+        return unregistered;
+    }
+
+    @Override
+    public Set<Banknote> deposit(Set<Banknote> banknotes, UUID uuid) throws ATMException {
+        logger.info("Deposit {} banknotes to the {} atm", banknotes.size(), uuid);
+
+        var nonDepositedBanknotes = fleet.apply(uuid, atm -> atm.takeAll(banknotes));
+        if (!nonDepositedBanknotes.isEmpty()) {
+            logger.error("Unable to deposit {} banknotes to the {} atm: suitable banknote boxes not found",
+                nonDepositedBanknotes.size(), uuid);
+        }
+
+        return new HashSet<>(nonDepositedBanknotes);
+    }
+
+    @Override
+    public List<Banknote> withdraw(int sum) throws ATMException {
+        logger.info("Withdraw {} sum from the fleet", sum);
+
+        if (sum <= 0) {
+            throw new ATMIncorrectSumException(String.format("Sum must be greater than 0, but %d given", sum));
+        }
+
+        // an incorrect sum is the most specific cause: an ATM had enough money but could not denominate the sum
+        ATMIncorrectSumException incorrectSumException = null;
+        for (var uuid : fleet.findRichest(sum, MAX_ROUTING_ATTEMPTS)) {
+            try {
+                var banknotes = fleet.apply(uuid, atm -> atm.give(sum));
+                logger.info("Sum {} was successfully withdrawn from the {} atm", sum, uuid);
+
+                return banknotes;
+            } catch (ATMIncorrectSumException e) {
+                logger.debug("ATM {} is unable to give {} sum: {}", uuid, sum, e.getMessage());
+                incorrectSumException = e;
+            } catch (ATMInsufficientBalanceException | ATMDisabledException e) {
+                // the index is updated by the failed attempt, so the next ATM is tried
+                logger.debug("ATM {} is unable to give {} sum: {}", uuid, sum, e.getMessage());
+            } catch (ATMNotFoundException e) {
+                logger.debug("ATM {} was unregistered while routing", uuid);
+            }
+        }
+
+        logger.warn("No one atm of the fleet is able to give {} sum", sum);
+        if (incorrectSumException != null) {
+            throw incorrectSumException;
+        }
+
+        throw new ATMInsufficientBalanceException(String.format("No one ATM is able to give %d sum", sum));
+    }
+
+    @Override
+    public long checkBalance() {
+        return fleet.getBalance();
+    }
+
+    @Override
+    public long collectBalance() {
+        logger.info("Collect balance of {} atms", fleet.size());
+
+        // every ATM is asked for its banknotes, and the fleet reconciles its index with each answer
+        var collectedBalance = pool.submit(() -> fleet.getUuids().parallelStream()
+            .mapToLong(this::collectBalance)
+            .sum()
+        ).join();
+
+        logger.info("Balance {} of the fleet was successfully collected", collectedBalance);
+
+        return collectedBalance;
+    }
+
+    @Override
+    public int backupAll() {
+        logger.info("Do backup of {} atms", fleet.size());
+
+        var backedUp = forEachInParallel(fleet.getUuids(), atm -> {
+            atm.backup();
+            return null;
+        });
+
+        logger.info("Backup for {} atms was successfully done", backedUp);
+
+        return backedUp;
+    }
+
+    @Override
+    public int disableRegion(String region) {
+        logger.info("Disable atms of the \"{}\" region", region);
+
+        var disabled = forEachInParallel(fleet.getUuids(region), atm -> {
+            atm.disable();
+            return null;
+        });
+
+        logger.info("{} atms of the \"{}\" region were successfully disabled", disabled, region);
+
+        return disabled;
+    }
+
+    @Override
+    public int enableRegion(String region) {
+        logger.info("Enable atms of the \"{}\" region", region);
+
+        var enabled = forEachInParallel(fleet.getUuids(region), atm -> {
+            atm.enable();
+            return null;
+        });
+
+        logger.info("{} atms of the \"{}\" region were successfully enabled", enabled, region);
+
+        return enabled;
+    }
+
+    /**
+     * Applies an operation to ATMs in parallel, ATMs which are disabled or unregistered meanwhile are skipped
+     *
+     * @return a count of ATMs the operation was applied to
+     */
+    private int forEachInParallel(Set<UUID> uuids, Function<ATM, Void> operation) {
+        return pool.submit(() -> (int) uuids.parallelStream()
+            .filter(uuid -> applySilently(uuid, operation))
+            .count()
+        ).join();
+    }
+
+    private long collectBalance(UUID uuid) {
+        try {
+            return fleet.apply(uuid, ATMFleetServiceImpl::countBalance);
+        } catch (ATMNotFoundException e) {
+            logger.debug("ATM {} was unregistered", uuid);
+        }
+
+        return 0L;
+    }
+
+    /**
+     * Counts a balance by banknote boxes, so disabled ATMs are counted too
+     */
+    private static long countBalance(ATM atm) {
+        var balance = 0L;
+        for (var denomination : Denomination.descending()) {
+            balance += (long) atm.getBanknotesCount(denomination) * denomination.toInt();
+        }
+
+        return balance;
+    }
+
+    private boolean applySilently(UUID uuid, Function<ATM, Void> operation) {
+        try {
+            fleet.apply(uuid, operation);
+            return true;
+        } catch (ATMDisabledException e) {
+            logger.debug("ATM {} is disabled now", uuid);
+        } catch (ATMNotFoundException e) {
+            logger.debug("ATM {} was unregistered", uuid);
+        }
+
+        return false;
+    }
+}
@@ -1,8 +1,12 @@
 package com.luxoft.atm.domain;
 
+import com.luxoft.atm.audit.ATMAuditLog;
 import com.luxoft.atm.domain.model.atm.*;
 import com.luxoft.atm.domain.model.atm.history.ATMHistoryEmptyException;
 import com.luxoft.atm.domain.model.banknote.Banknote;
+import com.luxoft.atm.metrics.ATMMetrics;
+import com.luxoft.atm.metrics.ATMMetrics.Operation;
+import com.luxoft.atm.metrics.ATMMetrics.Outcome;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,38 +24,72 @@ import java.util.Set;
 public class ATMServiceImpl implements ATMService {
     private static final Logger logger = LoggerFactory.getLogger(ATMServiceImpl.class);
 
+    private final ATMMetrics metrics;
+    private final ATMAuditLog auditLog;
+
+    public ATMServiceImpl() {
+        this(new ATMMetrics());
+    }
+
+    public ATMServiceImpl(ATMMetrics metrics) {
+        this(metrics, ATMAuditLog.builder().build());
+    }
+
+    public ATMServiceImpl(ATMMetrics metrics, ATMAuditLog auditLog) {
+        this.metrics = metrics;
+        this.auditLog = auditLog;
+    }
+
     @Override
     public Set<Banknote> deposit(Set<Banknote> banknotes, ATM atm) throws ATMDisabledException {
-        logger.info("Deposit {} banknotes to the {} atm", banknotes, atm);
-
-        Set<Banknote> nonDepositedBanknotes = new HashSet<>();
-        for (var banknote : banknotes) {
-            try {
-                atm.take(banknote);
-            } catch (ATMBanknotesBoxNotFoundException e) {
-                logger.error("Unable to deposit {} banknote to the {} atm: {}", banknote, atm, e.getMessage());
-                nonDepositedBanknotes.add(banknote);
-            } catch (ATMDisabledException e) {
-                logger.warn("ATM {} is disabled now", atm);
-                throw e;
-            }
+        logger.debug("Deposit {} banknotes to the {} atm", banknotes.size(), atm);
+        var startedAt = metrics.start();
+
+        List<Banknote> nonDepositedBanknotes;
+        try {
+            nonDepositedBanknotes = atm.takeAll(banknotes);
+        } catch (ATMDisabledException e) {
+            metrics.record(Operation.DEPOSIT, Outcome.DISABLED, startedAt);
+            auditLog.rejected(Operation.DEPOSIT, atm, banknotes, Outcome.DISABLED);
+            logger.warn("ATM {} is disabled now", atm);
+            throw e;
         }
 
-        return nonDepositedBanknotes;
+        metrics.record(Operation.DEPOSIT, Outcome.SUCCESS, startedAt);
+        auditLog.deposited(atm, banknotes, nonDepositedBanknotes);
+
+        if (!nonDepositedBanknotes.isEmpty()) {
+            logger.error("Unable to deposit {} banknotes to the {} atm: suitable banknote boxes not found",
+                nonDepositedBanknotes.size(), atm);
+        }
+
+        return new HashSet<>(nonDepositedBanknotes);
     }
 
     @Override
     public List<Banknote> withdraw(int sum, ATM atm) throws ATMException {
-        logger.info("Withdraw {} sum from the {} atm", sum, atm);
+        logger.debug("Withdraw {} sum from the {} atm", sum, atm);
+        var startedAt = metrics.start();
+
         try {
             var banknotes = atm.give(sum);
-            logger.info("Banknotes {} were successfully withdrawn from the {} atm", banknotes, atm);
+            metrics.record(Operation.WITHDRAW, Outcome.SUCCESS, startedAt);
+            auditLog.withdrawn(atm, sum, banknotes);
+            logger.debug("{} banknotes were successfully withdrawn from the {} atm", banknotes.size(), atm);
 
             return banknotes;
         } catch (ATMInsufficientBalanceException e) {
+            metrics.record(Operation.WITHDRAW, Outcome.INSUFFICIENT_BALANCE, startedAt);
+            auditLog.rejected(Operation.WITHDRAW, atm, sum, Outcome.INSUFFICIENT_BALANCE);
             logger.warn("Balance of the {} atm is too low", atm);
             throw e;
+        } catch (ATMIncorrectSumException e) {
+            metrics.record(Operation.WITHDRAW, Outcome.INCORRECT_SUM, startedAt);
+            auditLog.rejected(Operation.WITHDRAW, atm, sum, Outcome.INCORRECT_SUM);
+            throw e;
         } catch (ATMDisabledException e) {
+            metrics.record(Operation.WITHDRAW, Outcome.DISABLED, startedAt);
+            auditLog.rejected(Operation.WITHDRAW, atm, sum, Outcome.DISABLED);
             logger.warn("ATM {} is disabled now", atm);
             throw e;
         }
@@ -59,9 +97,15 @@ public class ATMServiceImpl implements ATMService {
 
     @Override
     public int checkBalance(ATM atm) throws ATMDisabledException {
+        var startedAt = metrics.start();
+
         try {
-            return atm.getBalance();
+            var balance = atm.getBalance();
+            metrics.record(Operation.CHECK_BALANCE, Outcome.SUCCESS, startedAt);
+
+            return balance;
         } catch (ATMDisabledException e) {
+            metrics.record(Operation.CHECK_BALANCE, Outcome.DISABLED, startedAt);
             logger.warn("ATM {} is disabled now", atm);
             throw e;
         }
@@ -70,38 +114,48 @@ public class ATMServiceImpl implements ATMService {
     @Override
     public void backup(ATM atm) throws ATMDisabledException {
         logger.info("Do backup of the {} atm", atm);
+        var startedAt = metrics.start();
 
         try {
             atm.backup();
         } catch (ATMDisabledException e) {
+            metrics.record(Operation.BACKUP, Outcome.DISABLED, startedAt);
             logger.warn("ATM {} is disabled now", atm);
             throw e;
         }
 
+        metrics.record(Operation.BACKUP, Outcome.SUCCESS, startedAt);
         logger.info("Backup for the {} atm was successfully done", atm);
     }
 
     @Override
     public void restore(ATM atm) throws ATMHistoryEmptyException, ATMDisabledException {
         logger.info("Restore a previous state of the {} atm", atm);
+        var startedAt = metrics.start();
 
         try {
             atm.restore();
         } catch (ATMDisabledException e) {
+            metrics.record(Operation.RESTORE, Outcome.DISABLED, startedAt);
             logger.warn("ATM {} is disabled now", atm);
             throw e;
         } catch (ATMHistoryEmptyException e) {
+            metrics.record(Operation.RESTORE, Outcome.HISTORY_EMPTY, startedAt);
             logger.warn(e.getMessage());
             throw e;
         }
 
+        metrics.record(Operation.RESTORE, Outcome.SUCCESS, startedAt);
         logger.info("ATM {} was successfully restored to the previous state", atm);
     }
 
     @Override
     public void disable(ATM atm) {
         logger.info("Disable the {} atm", atm);
+        var startedAt = metrics.start();
+
         atm.disable();
+        metrics.record(Operation.DISABLE, Outcome.SUCCESS, startedAt);
 
         logger.info("The {} atm was successfully disabled", atm);
     }
@@ -109,7 +163,10 @@ public class ATMServiceImpl implements ATMService {
     @Override
     public void enable(ATM atm) {
         logger.info("Enable the {} atm", atm);
+        var startedAt = metrics.start();
+
         atm.enable();
+        metrics.record(Operation.ENABLE, Outcome.SUCCESS, startedAt);
 
         logger.info("The {} atm was successfully enabled", atm);
     }
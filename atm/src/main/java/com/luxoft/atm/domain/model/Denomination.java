@@ -1,40 +1,60 @@
 package com.luxoft.atm.domain.model;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
 /**
- * Denomination enum
+ * Denomination enum <br>
+ * A value of every denomination is kept in a field, and the denominations and their DESC order are computed once,
+ * so neither {@link #toInt()} nor {@link #descending()} allocates or branches
  *
  * @author  Nikolai Osipov <nao99.dev@gmail.com>
  * @version 1.0.0
  * @since   2021-06-29
  */
 public enum Denomination {
-    DENOMINATION_50,
-    DENOMINATION_100,
-    DENOMINATION_500,
-    DENOMINATION_1000,
-    DENOMINATION_2000,
-    DENOMINATION_5000;
+    DENOMINATION_50(50),
+    DENOMINATION_100(100),
+    DENOMINATION_500(500),
+    DENOMINATION_1000(1000),
+    DENOMINATION_2000(2000),
+    DENOMINATION_5000(5000);
+
+    /**
+     * A count of denominations, the size of denomination-indexed (by ordinal) arrays
+     */
+    public static final int COUNT = values().length;
+
+    private static final List<Denomination> DESCENDING = Collections.unmodifiableList(
+        Arrays.asList(
+            Arrays.stream(values())
+                .sorted(Comparator.comparingInt(Denomination::toInt).reversed())
+                .toArray(Denomination[]::new)
+        )
+    );
+
+    private final int value;
+
+    Denomination(int value) {
+        this.value = value;
+    }
 
     public int toInt() {
-        switch (ordinal()) {
-            case 0:
-                return 50;
-            case 1:
-                return 100;
-            case 2:
-                return 500;
-            case 3:
-                return 1000;
-            case 4:
-                return 2000;
-            case 5:
-                return 5000;
-            default:
-                throw new RuntimeException("Unexpected exception");
-        }
+        return value;
     }
 
     public boolean lessThan(Denomination denomination) {
-        return toInt() < denomination.toInt();
+        return value < denomination.value;
+    }
+
+    /**
+     * Gets all denominations in the value DESC order
+     *
+     * @return denominations, the biggest first
+     */
+    public static List<Denomination> descending() {
+        return DESCENDING;
     }
 }
@@ -5,7 +5,10 @@ import com.luxoft.atm.domain.model.atm.history.ATMHistoryEmptyException;
 import com.luxoft.atm.domain.model.banknote.Banknote;
 import com.luxoft.atm.domain.model.banknote.BanknotesBox;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * ATM interface
@@ -15,6 +18,13 @@ import java.util.List;
  * @since   2021-06-30
  */
 public interface ATM {
+    /**
+     * Gets a UUID of this ATM
+     *
+     * @return an ATM UUID
+     */
+    UUID getUuid();
+
     /**
      * Takes a {@link Banknote}
      *
@@ -24,6 +34,26 @@ public interface ATM {
      */
     void take(Banknote banknote) throws ATMBanknotesBoxNotFoundException, ATMDisabledException;
 
+    /**
+     * Takes several {@link Banknote}s at once <br>
+     * Banknotes without a suitable {@link BanknotesBox} are not taken and returned back
+     *
+     * @param banknotes banknotes
+     * @return banknotes which were not taken
+     */
+    default List<Banknote> takeAll(Collection<? extends Banknote> banknotes) throws ATMDisabledException {
+        List<Banknote> rejectedBanknotes = new ArrayList<>();
+        for (var banknote : banknotes) {
+            try {
+                take(banknote);
+            } catch (ATMBanknotesBoxNotFoundException e) {
+                rejectedBanknotes.add(banknote);
+            }
+        }
+
+        return rejectedBanknotes;
+    }
+
     /**
      * Gives {@link Banknote}s for specified sum
      *
@@ -43,6 +73,15 @@ public interface ATM {
      */
     int getBalance() throws ATMDisabledException;
 
+    /**
+     * Gets a count of banknotes of a {@link Denomination} in this ATM <br>
+     * It is for monitoring, so it works for a disabled ATM too
+     *
+     * @param denomination a denomination
+     * @return a count of banknotes (0 if there is no box for this denomination)
+     */
+    int getBanknotesCount(Denomination denomination);
+
     /**
      * Does a backup to keep current state
      */
@@ -0,0 +1,350 @@
+package com.luxoft.atm.domain.model.atm;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.atm.history.ATMHistory;
+import com.luxoft.atm.domain.model.atm.history.ATMHistoryEmptyException;
+import com.luxoft.atm.domain.model.atm.history.ATMSnapshot;
+import com.luxoft.atm.domain.model.atm.withdrawal.MinimalNotesWithdrawalStrategy;
+import com.luxoft.atm.domain.model.atm.withdrawal.WithdrawalStrategy;
+import com.luxoft.atm.domain.model.banknote.Banknote;
+import com.luxoft.atm.domain.model.banknote.BanknotesBox;
+import com.luxoft.atm.domain.model.banknote.Box;
+import lombok.Builder;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ConcurrentATM class <br>
+ * A thread-safe ATM: every banknotes box is guarded by its own lock, so deposits into different boxes go in parallel <br>
+ * A withdrawal locks all boxes it could give banknotes from (in the same denomination DESC order every time,
+ * so there are no deadlocks), plans and gives banknotes under these locks, so the reservation is atomic <br>
+ * A backup and a restore lock all boxes. Boxes must be changed only through this ATM after it is built
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ConcurrentATM implements ATM {
+    private static final int NO_INDEX = -1;
+
+    private final UUID uuid;
+    private volatile boolean enabled;
+
+    // boxes in the denomination DESC order, the box and its count at an index are accessed only under the lock
+    // at the same index
+    private final BanknotesBox[] banknoteBoxes;
+    private final int[] values;
+    private final int[] counts;
+    private final ReentrantLock[] locks;
+    private final boolean[] shared;
+    private final int[] indexesByDenomination;
+
+    private final AtomicInteger balance;
+
+    private final ATMHistory history;
+    private final WithdrawalStrategy withdrawalStrategy;
+
+    @Builder
+    private ConcurrentATM(
+        Box box,
+        UUID uuid,
+        boolean enabled,
+        ATMHistory history,
+        WithdrawalStrategy withdrawalStrategy
+    ) {
+        var sortedBanknoteBoxes = (box == null ? Box.builder().build() : box).getSortedBanknoteBoxes();
+
+        this.uuid = uuid == null ? UUID.randomUUID() : uuid;
+        this.enabled = enabled;
+
+        this.banknoteBoxes = sortedBanknoteBoxes.toArray(new BanknotesBox[0]);
+        this.values = new int[banknoteBoxes.length];
+        this.counts = new int[banknoteBoxes.length];
+        this.locks = new ReentrantLock[banknoteBoxes.length];
+        this.shared = new boolean[banknoteBoxes.length];
+
+        this.indexesByDenomination = new int[Denomination.COUNT];
+        Arrays.fill(indexesByDenomination, NO_INDEX);
+
+        var worth = 0;
+        for (var i = 0; i < banknoteBoxes.length; i++) {
+            locks[i] = new ReentrantLock();
+
+            values[i] = banknoteBoxes[i].getDenomination().toInt();
+            counts[i] = banknoteBoxes[i].size();
+            worth += values[i] * counts[i];
+
+            var denominationIndex = banknoteBoxes[i].getDenomination().ordinal();
+            if (indexesByDenomination[denominationIndex] == NO_INDEX) {
+                indexesByDenomination[denominationIndex] = i;
+            }
+        }
+
+        this.balance = new AtomicInteger(worth);
+
+        this.history = history == null ? ATMHistory.builder().build() : history;
+        this.withdrawalStrategy = withdrawalStrategy == null ? new MinimalNotesWithdrawalStrategy() : withdrawalStrategy;
+    }
+
+    @Override
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    @Override
+    public void take(Banknote banknote) throws ATMBanknotesBoxNotFoundException, ATMDisabledException {
+        throwIfDisabled();
+
+        var denomination = banknote.getDenomination();
+
+        var index = indexesByDenomination[denomination.ordinal()];
+        if (index == NO_INDEX) {
+            var errorMessagePattern = "A suitable banknote box not found for the \"%s\" banknote denomination";
+            throw new ATMBanknotesBoxNotFoundException(String.format(errorMessagePattern, denomination));
+        }
+
+        var lock = locks[index];
+        lock.lock();
+
+        try {
+            detachIfShared(index);
+            banknoteBoxes[index].take(banknote);
+
+            counts[index]++;
+            balance.addAndGet(values[index]);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Banknote> takeAll(Collection<? extends Banknote> banknotes) throws ATMDisabledException {
+        throwIfDisabled();
+
+        List<Banknote> rejectedBanknotes = new ArrayList<>();
+        for (var group : Banknote.groupByDenomination(banknotes).entrySet()) {
+            var index = indexesByDenomination[group.getKey().ordinal()];
+            if (index == NO_INDEX) {
+                rejectedBanknotes.addAll(group.getValue());
+                continue;
+            }
+
+            // boxes are locked one by one, so a bulk deposit never holds more than one lock
+            var lock = locks[index];
+            lock.lock();
+
+            try {
+                detachIfShared(index);
+                banknoteBoxes[index].takeAll(group.getValue());
+
+                counts[index] += group.getValue().size();
+                balance.addAndGet(group.getValue().size() * values[index]);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        return rejectedBanknotes;
+    }
+
+    @Override
+    public List<Banknote> give(
+        int sum
+    ) throws ATMIncorrectSumException, ATMInsufficientBalanceException, ATMDisabledException {
+        throwIfDisabled();
+
+        if (sum <= 0) {
+            throw new ATMIncorrectSumException(String.format("Sum must be greater than 0, but %d given", sum));
+        }
+
+        if (balance.get() < sum) {
+            throw new ATMInsufficientBalanceException("The ATM balance is less than required sum");
+        }
+
+        // boxes of bigger banknotes cannot take part, so they stay unlocked
+        var first = 0;
+        while (first < banknoteBoxes.length && values[first] > sum) {
+            first++;
+        }
+
+        lockRange(first, banknoteBoxes.length);
+
+        try {
+            var boxesCount = banknoteBoxes.length - first;
+
+            // counts of unlocked boxes must not be read, so the strategy gets only the locked range
+            var plan = first == 0
+                ? withdrawalStrategy.plan(sum, values, counts)
+                : withdrawalStrategy.plan(
+                    sum,
+                    Arrays.copyOfRange(values, first, banknoteBoxes.length),
+                    Arrays.copyOfRange(counts, first, banknoteBoxes.length)
+                );
+
+            if (plan == null) {
+                if (balance.get() < sum) {
+                    throw new ATMInsufficientBalanceException("The ATM balance is less than required sum");
+                }
+
+                throw new ATMIncorrectSumException(String.format("The %d sum cannot be given by no one denomination", sum));
+            }
+
+            List<Banknote> banknotes = new ArrayList<>();
+            for (var i = 0; i < boxesCount; i++) {
+                if (plan[i] == 0) {
+                    continue;
+                }
+
+                detachIfShared(first + i);
+                banknoteBoxes[first + i].give(plan[i], banknotes);
+                counts[first + i] -= plan[i];
+            }
+
+            balance.addAndGet(-sum);
+
+            return banknotes;
+        } finally {
+            unlockRange(first, banknoteBoxes.length);
+        }
+    }
+
+    @Override
+    public int getBalance() throws ATMDisabledException {
+        throwIfDisabled();
+        return balance.get();
+    }
+
+    @Override
+    public int getBanknotesCount(Denomination denomination) {
+        var index = indexesByDenomination[denomination.ordinal()];
+        if (index == NO_INDEX) {
+            return 0;
+        }
+
+        // boxes of one denomination are next to each other in the denomination order
+        var count = 0;
+        for (var i = index; i < banknoteBoxes.length && values[i] == denomination.toInt(); i++) {
+            locks[i].lock();
+
+            try {
+                count += counts[i];
+            } finally {
+                locks[i].unlock();
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public void backup() throws ATMDisabledException {
+        throwIfDisabled();
+        lockRange(0, banknoteBoxes.length);
+
+        try {
+            var snapshot = ATMSnapshot.builder()
+                .box(Box.builder().banknoteBoxes(new HashSet<>(Arrays.asList(banknoteBoxes))).build())
+                .build();
+
+            synchronized (history) {
+                history.push(snapshot);
+            }
+
+            Arrays.fill(shared, true);
+        } finally {
+            unlockRange(0, banknoteBoxes.length);
+        }
+    }
+
+    @Override
+    public void restore() throws ATMHistoryEmptyException, ATMDisabledException {
+        throwIfDisabled();
+        lockRange(0, banknoteBoxes.length);
+
+        try {
+            ATMSnapshot snapshot;
+            synchronized (history) {
+                snapshot = history.pop();
+            }
+
+            var restoredBanknoteBoxes = snapshot.getBox().getSortedBanknoteBoxes();
+            if (restoredBanknoteBoxes.size() != banknoteBoxes.length) {
+                throw new IllegalStateException("A snapshot must have the same banknote boxes as the ATM");
+            }
+
+            var worth = 0;
+            for (var i = 0; i < banknoteBoxes.length; i++) {
+                var restoredBanknotesBox = restoredBanknoteBoxes.get(i);
+                if (restoredBanknotesBox.getDenomination() != banknoteBoxes[i].getDenomination()) {
+                    throw new IllegalStateException("A snapshot must have the same banknote boxes as the ATM");
+                }
+
+                banknoteBoxes[i] = restoredBanknotesBox;
+                counts[i] = restoredBanknotesBox.size();
+                worth += values[i] * counts[i];
+            }
+
+            // restored boxes may be shared with older snapshots
+            Arrays.fill(shared, true);
+            balance.set(worth);
+        } finally {
+            unlockRange(0, banknoteBoxes.length);
+        }
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    @Override
+    public void disable() {
+        enabled = false;
+    }
+
+    @Override
+    public void enable() {
+        enabled = true;
+    }
+
+    private void throwIfDisabled() throws ATMDisabledException {
+        if (!enabled) {
+            throw new ATMDisabledException("ATM is disabled now");
+        }
+    }
+
+    /**
+     * Gives snapshots their own copy of a box before it is changed, the history is touched
+     * only for the first change of the box after a backup or a restore
+     */
+    private void detachIfShared(int index) {
+        if (shared[index]) {
+            synchronized (history) {
+                history.detach(banknoteBoxes[index]);
+            }
+
+            shared[index] = false;
+        }
+    }
+
+    private void lockRange(int from, int to) {
+        for (var i = from; i < to; i++) {
+            locks[i].lock();
+        }
+    }
+
+    private void unlockRange(int from, int to) {
+        for (var i = to - 1; i >= from; i--) {
+            locks[i].unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentATM{" +
+            "uuid=" + uuid +
+            ", enabled=" + enabled +
+            '}';
+    }
+}
@@ -1,37 +1,62 @@
 package com.luxoft.atm.domain.model.atm;
 
+import com.luxoft.atm.domain.model.Denomination;
 import com.luxoft.atm.domain.model.atm.history.ATMHistory;
 import com.luxoft.atm.domain.model.atm.history.ATMHistoryEmptyException;
 import com.luxoft.atm.domain.model.atm.history.ATMSnapshot;
+import com.luxoft.atm.domain.model.atm.withdrawal.MinimalNotesWithdrawalStrategy;
+import com.luxoft.atm.domain.model.atm.withdrawal.WithdrawalStrategy;
 import com.luxoft.atm.domain.model.banknote.Banknote;
 import com.luxoft.atm.domain.model.banknote.BanknotesBox;
 import com.luxoft.atm.domain.model.banknote.Box;
 import lombok.Builder;
-import org.apache.commons.lang3.SerializationUtils;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
- * DefaultATM class
+ * DefaultATM class <br>
+ * Keeps a running balance and banknote counts of boxes, so boxes must be changed only through this ATM after it is built
  *
  * @author  Nikolai Osipov <nao99.dev@gmail.com>
  * @version 1.0.0
  * @since   2021-06-30
  */
-@Builder
 public class DefaultATM implements ATM {
+    private static final int NO_INDEX = -1;
+
     private Box box;
     private final UUID uuid;
     private boolean enabled;
+    private int balance;
 
-    private final ATMHistory history;
+    // boxes in the denomination DESC order with their banknote values and counts, rebuilt when the box is replaced
+    private BanknotesBox[] banknoteBoxes;
+    private int[] values;
+    private int[] counts;
+    private final int[] indexesByDenomination = new int[Denomination.COUNT];
 
-    private DefaultATM(Box box, UUID uuid, boolean enabled, ATMHistory history) {
-        this.box = box == null ? Box.builder().build() : box;
+    private final ATMHistory history;
+    private final WithdrawalStrategy withdrawalStrategy;
+
+    @Builder
+    private DefaultATM(
+        Box box,
+        UUID uuid,
+        boolean enabled,
+        ATMHistory history,
+        WithdrawalStrategy withdrawalStrategy
+    ) {
         this.uuid = uuid == null ? UUID.randomUUID() : uuid;
         this.enabled = enabled;
         this.history = history == null ? ATMHistory.builder().build() : history;
+        this.withdrawalStrategy = withdrawalStrategy == null ? new MinimalNotesWithdrawalStrategy() : withdrawalStrategy;
+
+        replaceBox(box == null ? Box.builder().build() : box);
+    }
+
+    @Override
+    public UUID getUuid() {
+        return uuid;
     }
 
     public Box getBox() {
@@ -42,15 +67,39 @@ public class DefaultATM implements ATM {
     public void take(Banknote banknote) throws ATMBanknotesBoxNotFoundException, ATMDisabledException {
         throwIfDisabled();
 
-        for (var banknoteBox : box.getBanknoteBoxes()) {
-            if (banknoteBox.getDenomination() == banknote.getDenomination()) {
-                banknoteBox.take(banknote);
-                return;
+        var index = indexesByDenomination[banknote.getDenomination().ordinal()];
+        if (index == NO_INDEX) {
+            var errorMessagePattern = "A suitable banknote box not found for the \"%s\" banknote denomination";
+            throw new ATMBanknotesBoxNotFoundException(String.format(errorMessagePattern, banknote.getDenomination()));
+        }
+
+        history.detach(banknoteBoxes[index]);
+        banknoteBoxes[index].take(banknote);
+
+        counts[index]++;
+        balance += values[index];
+    }
+
+    @Override
+    public List<Banknote> takeAll(Collection<? extends Banknote> banknotes) throws ATMDisabledException {
+        throwIfDisabled();
+
+        List<Banknote> rejectedBanknotes = new ArrayList<>();
+        for (var group : Banknote.groupByDenomination(banknotes).entrySet()) {
+            var index = indexesByDenomination[group.getKey().ordinal()];
+            if (index == NO_INDEX) {
+                rejectedBanknotes.addAll(group.getValue());
+                continue;
             }
+
+            history.detach(banknoteBoxes[index]);
+            banknoteBoxes[index].takeAll(group.getValue());
+
+            counts[index] += group.getValue().size();
+            balance += group.getValue().size() * values[index];
         }
 
-        var errorMessagePattern = "A suitable banknote box not found for the \"%s\" banknote denomination";
-        throw new ATMBanknotesBoxNotFoundException(String.format(errorMessagePattern, banknote.getDenomination()));
+        return rejectedBanknotes;
     }
 
     @Override
@@ -63,52 +112,65 @@ public class DefaultATM implements ATM {
             throw new ATMIncorrectSumException(String.format("Sum must be greater than 0, but %d given", sum));
         }
 
-        var balance = getBalance();
         if (balance < sum) {
             throw new ATMInsufficientBalanceException("The ATM balance is less than required sum");
         }
 
-        var banknoteBoxesSortedList = box.getBanknoteBoxes().stream()
-            .sorted(BanknotesBox.comparator())
-            .collect(Collectors.toList());
-
-        var possibleToGive = checkIfPossibleToGive(sum, banknoteBoxesSortedList);
-        if (!possibleToGive) {
+        var plan = withdrawalStrategy.plan(sum, values, counts);
+        if (plan == null) {
             throw new ATMIncorrectSumException(String.format("The %d sum cannot be given by no one denomination", sum));
         }
 
-        List<Banknote> banknotes = new ArrayList<>();
-
-        // TODO: Avoid the code's duplication
-        // TODO: Move this algorithm to a separated place
-        for (var banknoteBox : banknoteBoxesSortedList) {
-            var banknotesBoxDenomination = banknoteBox.getDenomination();
-            var banknotesBoxDenominationInt = banknotesBoxDenomination.toInt();
+        var banknotesCount = 0;
+        for (var count : plan) {
+            banknotesCount += count;
+        }
 
-            while (!banknoteBox.empty() && sum >= banknotesBoxDenominationInt) {
-                banknotes.add(banknoteBox.give());
-                sum -= banknotesBoxDenominationInt;
+        List<Banknote> banknotes = new ArrayList<>(banknotesCount);
+        for (var i = 0; i < plan.length; i++) {
+            if (plan[i] == 0) {
+                continue;
             }
+
+            history.detach(banknoteBoxes[i]);
+            banknoteBoxes[i].give(plan[i], banknotes);
+            counts[i] -= plan[i];
         }
 
+        balance -= sum;
+
         return banknotes;
     }
 
     @Override
     public int getBalance() throws ATMDisabledException {
         throwIfDisabled();
-        return box.getBanknoteBoxes().stream()
-            .map(BanknotesBox::getWorth)
-            .reduce(0, Integer::sum);
+        return balance;
+    }
+
+    @Override
+    public int getBanknotesCount(Denomination denomination) {
+        var index = indexesByDenomination[denomination.ordinal()];
+        if (index == NO_INDEX) {
+            return 0;
+        }
+
+        // boxes of one denomination are next to each other in the denomination order
+        var count = 0;
+        for (var i = index; i < banknoteBoxes.length && values[i] == denomination.toInt(); i++) {
+            count += counts[i];
+        }
+
+        return count;
     }
 
     @Override
     public void backup() throws ATMDisabledException {
         throwIfDisabled();
 
-        var boxClone = SerializationUtils.clone(box);
+        // banknote boxes are shared with the snapshot until they are changed
         var snapshot = ATMSnapshot.builder()
-            .box(boxClone)
+            .box(box.shallowCopy())
             .build();
 
         history.push(snapshot);
@@ -144,19 +206,26 @@ public class DefaultATM implements ATM {
 
     private void replaceBox(Box box) {
         this.box = box;
-    }
+        this.banknoteBoxes = box.getSortedBanknoteBoxes().toArray(new BanknotesBox[0]);
+        this.values = new int[banknoteBoxes.length];
+        this.counts = new int[banknoteBoxes.length];
+
+        Arrays.fill(indexesByDenomination, NO_INDEX);
+
+        var worth = 0;
+        for (var i = 0; i < banknoteBoxes.length; i++) {
+            var denomination = banknoteBoxes[i].getDenomination();
 
-    private boolean checkIfPossibleToGive(int sum, List<BanknotesBox> banknoteBoxes) {
-        for (var banknoteBox : banknoteBoxes) {
-            var banknotesBoxDenomination = banknoteBox.getDenomination();
-            var banknotesBoxDenominationInt = banknotesBoxDenomination.toInt();
+            values[i] = denomination.toInt();
+            counts[i] = banknoteBoxes[i].size();
+            worth += values[i] * counts[i];
 
-            while (!banknoteBox.empty() && sum >= banknotesBoxDenominationInt) {
-                sum -= banknotesBoxDenominationInt;
+            if (indexesByDenomination[denomination.ordinal()] == NO_INDEX) {
+                indexesByDenomination[denomination.ordinal()] = i;
             }
         }
 
-        return sum == 0;
+        this.balance = worth;
     }
 
     @Override
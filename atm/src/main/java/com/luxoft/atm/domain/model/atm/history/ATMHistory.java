@@ -1,5 +1,6 @@
 package com.luxoft.atm.domain.model.atm.history;
 
+import com.luxoft.atm.domain.model.banknote.BanknotesBox;
 import lombok.Builder;
 
 import java.util.ArrayDeque;
@@ -7,7 +8,11 @@ import java.util.Deque;
 import java.util.NoSuchElementException;
 
 /**
- * ATMHistory class
+ * ATMHistory class <br>
+ * Snapshots share banknote boxes with an ATM and with each other (copy-on-write): <br>
+ * a box is copied only when the ATM is going to change it (see {@link #detach(BanknotesBox)}),
+ * so a snapshot keeps only boxes changed after it was done <br>
+ * The history keeps at most max size snapshots (if it is positive), the oldest ones are dropped
  *
  * @author  Nikolai Osipov <nao99.dev@gmail.com>
  * @version 1.0.0
@@ -16,13 +21,23 @@ import java.util.NoSuchElementException;
 @Builder
 public class ATMHistory {
     private final Deque<ATMSnapshot> snapshots;
+    private final int maxSize;
+
+    private ATMHistory(Deque<ATMSnapshot> snapshots, int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException(String.format("History max size must not be negative, but %d given", maxSize));
+        }
 
-    private ATMHistory(Deque<ATMSnapshot> snapshots) {
         this.snapshots = snapshots == null ? new ArrayDeque<>() : snapshots;
+        this.maxSize = maxSize;
     }
 
     public void push(ATMSnapshot snapshot) {
         snapshots.push(snapshot);
+
+        if (maxSize > 0 && snapshots.size() > maxSize) {
+            snapshots.removeLast();
+        }
     }
 
     public ATMSnapshot pop() throws ATMHistoryEmptyException {
@@ -33,6 +48,30 @@ public class ATMHistory {
         }
     }
 
+    /**
+     * Gives snapshots sharing a banknotes box their own copy of it <br>
+     * Must be called before the box is changed
+     *
+     * @param banknotesBox a banknotes box which is going to be changed
+     */
+    public void detach(BanknotesBox banknotesBox) {
+        BanknotesBox copy = null;
+
+        // only the latest snapshots can share a box, as older ones got their copy when it was changed
+        for (var snapshot : snapshots) {
+            var box = snapshot.getBox();
+            if (!box.holds(banknotesBox)) {
+                break;
+            }
+
+            if (copy == null) {
+                copy = banknotesBox.copy();
+            }
+
+            box.replace(banknotesBox, copy);
+        }
+    }
+
     public int size() {
         return snapshots.size();
     }
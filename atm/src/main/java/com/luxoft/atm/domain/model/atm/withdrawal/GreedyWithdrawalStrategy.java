@@ -0,0 +1,24 @@
+package com.luxoft.atm.domain.model.atm.withdrawal;
+
+/**
+ * GreedyWithdrawalStrategy class <br>
+ * Takes as many banknotes of the biggest value as possible, then of the next one, etc. <br>
+ * It is the cheapest strategy, but it rejects some sums which could be given (e.g. 6000 by 5000 and 2000 banknotes)
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class GreedyWithdrawalStrategy implements WithdrawalStrategy {
+    @Override
+    public int[] plan(int sum, int[] values, int[] counts) {
+        var plan = new int[values.length];
+
+        for (var i = 0; i < values.length && sum > 0; i++) {
+            plan[i] = Math.min(counts[i], sum / values[i]);
+            sum -= plan[i] * values[i];
+        }
+
+        return sum == 0 ? plan : null;
+    }
+}
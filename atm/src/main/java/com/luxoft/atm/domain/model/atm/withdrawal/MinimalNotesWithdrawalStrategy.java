@@ -0,0 +1,142 @@
+package com.luxoft.atm.domain.model.atm.withdrawal;
+
+/**
+ * MinimalNotesWithdrawalStrategy class <br>
+ * Finds a plan with the minimal count of banknotes by a depth-first branch and bound over the boxes: <br>
+ * - the first explored branch is the greedy one, so a sum the greedy strategy can give is found at once <br>
+ * - a branch is cut when the rest cannot be covered by the remaining boxes (their worth or common divisor) <br>
+ * - a branch is cut when it cannot give fewer banknotes than the best plan found so far <br>
+ * The search is bounded by a count of visited nodes: when the limit is reached, the best plan found so far is returned,
+ * or the {@link GreedyWithdrawalStrategy} plan if none was found yet, so a payable sum is not rejected
+ * only because the search ran out of nodes
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class MinimalNotesWithdrawalStrategy implements WithdrawalStrategy {
+    private static final int DEFAULT_NODES_LIMIT = 1 << 16;
+
+    private static final WithdrawalStrategy FALLBACK_STRATEGY = new GreedyWithdrawalStrategy();
+
+    private final int nodesLimit;
+
+    public MinimalNotesWithdrawalStrategy() {
+        this(DEFAULT_NODES_LIMIT);
+    }
+
+    public MinimalNotesWithdrawalStrategy(int nodesLimit) {
+        if (nodesLimit <= 0) {
+            throw new IllegalArgumentException(String.format("Nodes limit must be greater than 0, but %d given", nodesLimit));
+        }
+
+        this.nodesLimit = nodesLimit;
+    }
+
+    @Override
+    public int[] plan(int sum, int[] values, int[] counts) {
+        var search = new Search(values, counts, nodesLimit);
+        search.run(0, sum, 0);
+
+        if (search.found()) {
+            return search.best;
+        }
+
+        return search.exhausted() ? FALLBACK_STRATEGY.plan(sum, values, counts) : null;
+    }
+
+    private static final class Search {
+        private final int[] values;
+        private final int[] counts;
+        private final int boxesCount;
+
+        // the worth and the greatest common divisor of values of non empty boxes from an index to the end
+        private final long[] suffixWorths;
+        private final int[] suffixDivisors;
+
+        private final int[] current;
+        private final int[] best;
+        private int bestNotes = Integer.MAX_VALUE;
+
+        private int nodesLeft;
+
+        private Search(int[] values, int[] counts, int nodesLimit) {
+            this.values = values;
+            this.counts = counts;
+            this.boxesCount = values.length;
+
+            this.suffixWorths = new long[boxesCount + 1];
+            this.suffixDivisors = new int[boxesCount + 1];
+            for (var i = boxesCount - 1; i >= 0; i--) {
+                suffixWorths[i] = suffixWorths[i + 1] + (long) values[i] * counts[i];
+                suffixDivisors[i] = counts[i] == 0 ? suffixDivisors[i + 1] : gcd(values[i], suffixDivisors[i + 1]);
+            }
+
+            this.current = new int[boxesCount];
+            this.best = new int[boxesCount];
+            this.nodesLeft = nodesLimit;
+        }
+
+        private boolean found() {
+            return bestNotes != Integer.MAX_VALUE;
+        }
+
+        private boolean exhausted() {
+            // a node is cut for the limit only after the counter went below zero
+            return nodesLeft < 0;
+        }
+
+        private void run(int index, int rest, int notes) {
+            if (rest == 0) {
+                bestNotes = notes;
+                System.arraycopy(current, 0, best, 0, index);
+                for (var i = index; i < boxesCount; i++) {
+                    best[i] = 0;
+                }
+
+                return;
+            }
+
+            if (index == boxesCount || nodesLeft-- <= 0) {
+                return;
+            }
+
+            var divisor = suffixDivisors[index];
+            if (suffixWorths[index] < rest || divisor == 0 || rest % divisor != 0) {
+                return;
+            }
+
+            var value = values[index];
+            for (var count = Math.min(counts[index], rest / value); count >= 0; count--) {
+                var nextRest = rest - count * value;
+
+                // fewer banknotes of this value only need more of the smaller ones, so the bound only grows
+                var bound = notes + count;
+                if (nextRest > 0) {
+                    if (index + 1 == boxesCount) {
+                        break;
+                    }
+
+                    bound += (nextRest + values[index + 1] - 1) / values[index + 1];
+                }
+
+                if (bound >= bestNotes) {
+                    break;
+                }
+
+                current[index] = count;
+                run(index + 1, nextRest, notes + count);
+            }
+        }
+
+        private static int gcd(int a, int b) {
+            while (b != 0) {
+                var remainder = a % b;
+                a = b;
+                b = remainder;
+            }
+
+            return a;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.luxoft.atm.domain.model.atm.withdrawal;
+
+/**
+ * WithdrawalStrategy interface <br>
+ * Decides how many banknotes of every banknotes box should be given for a sum <br>
+ * Values and counts are the ATM own arrays, so a strategy must not change them
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public interface WithdrawalStrategy {
+    /**
+     * Plans a withdrawal
+     *
+     * @param sum    a sum to give (greater than 0)
+     * @param values a banknote value of every box, in the descending order
+     * @param counts a count of banknotes in every box
+     *
+     * @return a count of banknotes to give from every box or null if the sum cannot be given
+     */
+    int[] plan(int sum, int[] values, int[] counts);
+}
@@ -5,8 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.io.Serializable;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
 
 /**
  * Banknote class
@@ -30,6 +29,21 @@ public class Banknote implements Serializable {
         this.uuid = uuid == null ? UUID.randomUUID() : uuid;
     }
 
+    /**
+     * Groups banknotes by {@link Denomination} in one pass
+     *
+     * @param banknotes banknotes to group
+     * @return banknotes by denomination
+     */
+    public static Map<Denomination, List<Banknote>> groupByDenomination(Collection<? extends Banknote> banknotes) {
+        Map<Denomination, List<Banknote>> banknotesByDenomination = new EnumMap<>(Denomination.class);
+        for (var banknote : banknotes) {
+            banknotesByDenomination.computeIfAbsent(banknote.getDenomination(), key -> new ArrayList<>()).add(banknote);
+        }
+
+        return banknotesByDenomination;
+    }
+
     @Override
     public String toString() {
         return "Banknote{" +
@@ -2,6 +2,7 @@ package com.luxoft.atm.domain.model.banknote;
 
 import com.luxoft.atm.domain.model.Denomination;
 
+import java.util.Collection;
 import java.util.Comparator;
 
 /**
@@ -21,13 +22,54 @@ public interface BanknotesBox {
     void take(Banknote banknote) throws BanknoteBoxDenominationException;
 
     /**
-     * Gives a {@link Banknote} from this box
+     * Takes several {@link Banknote}s at once
+     *
+     * @param banknotes banknotes to take
+     * @throws BanknoteBoxDenominationException if any banknote has not the same denomination as a box
+     *                                          (nothing is taken then)
+     */
+    default void takeAll(Collection<? extends Banknote> banknotes) throws BanknoteBoxDenominationException {
+        BanknotesBoxes.throwIfAnyDenominationDiffers(this, banknotes);
+
+        for (var banknote : banknotes) {
+            take(banknote);
+        }
+    }
+
+    /**
+     * Gives a {@link Banknote} from this box <br>
+     * A box may not keep serials, then the banknote is a new one of the box denomination
+     * (see {@link CountingBanknotesBox})
      *
      * @return a banknote
      * @throws BanknoteBoxEmptyException if the box is empty
      */
     Banknote give() throws BanknoteBoxEmptyException;
 
+    /**
+     * Gives several {@link Banknote}s from this box
+     *
+     * @param count     a count of banknotes to give
+     * @param banknotes a collection to add given banknotes to
+     * @throws BanknoteBoxEmptyException if the box has fewer banknotes (nothing is given then)
+     */
+    default void give(int count, Collection<? super Banknote> banknotes) throws BanknoteBoxEmptyException {
+        if (size() < count) {
+            throw new BanknoteBoxEmptyException(String.format("Banknotes box has fewer than %d banknotes", count));
+        }
+
+        for (var i = 0; i < count; i++) {
+            banknotes.add(give());
+        }
+    }
+
+    /**
+     * Copies this box with its banknotes (banknotes are immutable, so they are shared)
+     *
+     * @return a copy of this box
+     */
+    BanknotesBox copy();
+
     /**
      * Gets a worth of this box
      *
@@ -58,11 +100,11 @@ public interface BanknotesBox {
 
     /**
      * Gets a {@link Comparator} to compare 2 boxes <br>
-     * Compares by denomination (DESC)
+     * Compares by denomination (DESC), boxes of the same denomination are equal
      *
      * @return a boxes comparator
      */
     static Comparator<? super BanknotesBox> comparator() {
-        return (b1, b2) -> b2.getDenomination().lessThan(b1.getDenomination()) ? -1 : 0;
+        return (b1, b2) -> Integer.compare(b2.getDenomination().toInt(), b1.getDenomination().toInt());
     }
 }
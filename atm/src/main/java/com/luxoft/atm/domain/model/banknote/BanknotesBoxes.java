@@ -0,0 +1,34 @@
+package com.luxoft.atm.domain.model.banknote;
+
+import java.util.Collection;
+
+/**
+ * BanknotesBoxes class <br>
+ * Checks shared by {@link BanknotesBox} implementations
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+final class BanknotesBoxes {
+    private BanknotesBoxes() {
+    }
+
+    /**
+     * Checks that all {@link Banknote}s have the same denomination as a box
+     *
+     * @param box       a box
+     * @param banknotes banknotes to check
+     * @throws BanknoteBoxDenominationException if any banknote has not the same denomination as a box
+     */
+    static void throwIfAnyDenominationDiffers(
+        BanknotesBox box,
+        Collection<? extends Banknote> banknotes
+    ) throws BanknoteBoxDenominationException {
+        for (var banknote : banknotes) {
+            if (banknote.getDenomination() != box.getDenomination()) {
+                throw new BanknoteBoxDenominationException("Banknote and banknotes box denominations must be equal");
+            }
+        }
+    }
+}
@@ -4,21 +4,22 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.io.Serializable;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 
 /**
- * Box class
+ * Box class <br>
+ * Banknote boxes must not be added or removed after the box is built, as their order is cached
  *
  * @author  Nikolai Osipov <nao99.dev@gmail.com>
  * @version 1.0.0
  * @since   2021-07-06
  */
 @Getter
-@Builder
 public class Box implements Serializable {
     private final Set<BanknotesBox> banknoteBoxes;
+    private transient List<BanknotesBox> sortedBanknoteBoxes;
 
+    @Builder
     private Box(Set<BanknotesBox> banknoteBoxes) {
         this.banknoteBoxes = banknoteBoxes == null ? new HashSet<>() : banknoteBoxes;
     }
@@ -26,4 +27,60 @@ public class Box implements Serializable {
     public int size() {
         return banknoteBoxes.size();
     }
+
+    /**
+     * Creates a box with the same banknote boxes, the boxes themselves are not copied
+     *
+     * @return a box sharing banknote boxes with this one
+     */
+    public Box shallowCopy() {
+        var box = new Box(new HashSet<>(banknoteBoxes));
+        box.sortedBanknoteBoxes = sortedBanknoteBoxes;
+
+        return box;
+    }
+
+    /**
+     * Checks if this box holds exactly this banknotes box instance (not just an equal one)
+     *
+     * @param banknotesBox a banknotes box
+     * @return true if the instance is held or false else
+     */
+    public boolean holds(BanknotesBox banknotesBox) {
+        for (var banknoteBox : banknoteBoxes) {
+            if (banknoteBox == banknotesBox) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Replaces a held banknotes box with another one
+     *
+     * @param banknotesBox a held banknotes box
+     * @param replacement  a banknotes box to hold instead
+     */
+    public void replace(BanknotesBox banknotesBox, BanknotesBox replacement) {
+        banknoteBoxes.remove(banknotesBox);
+        banknoteBoxes.add(replacement);
+        sortedBanknoteBoxes = null;
+    }
+
+    /**
+     * Gets banknote boxes sorted by denomination (DESC), the order is computed once
+     *
+     * @return sorted banknote boxes
+     */
+    public List<BanknotesBox> getSortedBanknoteBoxes() {
+        if (sortedBanknoteBoxes == null) {
+            var banknoteBoxesList = new ArrayList<>(banknoteBoxes);
+            banknoteBoxesList.sort(BanknotesBox.comparator());
+
+            sortedBanknoteBoxes = Collections.unmodifiableList(banknoteBoxesList);
+        }
+
+        return sortedBanknoteBoxes;
+    }
 }
@@ -0,0 +1,155 @@
+package com.luxoft.atm.domain.model.banknote;
+
+import com.luxoft.atm.domain.model.Denomination;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * CountingBanknotesBox class <br>
+ * Keeps only a count of banknotes, so the box takes no memory per banknote and its worth is O(1) <br>
+ * Serials of banknotes are not tracked: a given banknote is a new one of the box denomination
+ * (wrap the box into a {@link SerialTrackingBanknotesBox} to track them)
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@Getter
+@Builder
+public class CountingBanknotesBox implements BanknotesBox, Serializable {
+    private final Denomination denomination;
+    private int count;
+    private final UUID uuid;
+
+    private CountingBanknotesBox(Denomination denomination, int count, UUID uuid) throws IllegalArgumentException {
+        if (denomination == null) {
+            throw new IllegalArgumentException("Banknotes box's denomination must not be null");
+        }
+
+        if (count < 0) {
+            throw new IllegalArgumentException(String.format("Banknotes count must not be negative, but %d given", count));
+        }
+
+        this.denomination = denomination;
+        this.count = count;
+        this.uuid = uuid == null ? UUID.randomUUID() : uuid;
+    }
+
+    @Override
+    public void take(Banknote banknote) throws BanknoteBoxDenominationException {
+        if (banknote.getDenomination() != denomination) {
+            throw new BanknoteBoxDenominationException("Banknote and banknotes box denominations must be equal");
+        }
+
+        count++;
+    }
+
+    @Override
+    public void takeAll(Collection<? extends Banknote> banknotes) throws BanknoteBoxDenominationException {
+        BanknotesBoxes.throwIfAnyDenominationDiffers(this, banknotes);
+        count += banknotes.size();
+    }
+
+    /**
+     * Gives a new banknote of the box denomination with a random UUID, it is not one of the taken banknotes
+     *
+     * @return an untracked banknote
+     * @throws BanknoteBoxEmptyException if the box is empty
+     */
+    @Override
+    public Banknote give() throws BanknoteBoxEmptyException {
+        if (count == 0) {
+            throw new BanknoteBoxEmptyException("Banknotes box is empty");
+        }
+
+        count--;
+
+        return untrackedBanknote(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Gives new banknotes of the box denomination with random UUIDs, they are not the taken banknotes
+     *
+     * @param count     a count of banknotes to give
+     * @param banknotes a collection to add untracked banknotes to
+     * @throws BanknoteBoxEmptyException if the box has fewer banknotes (nothing is given then)
+     */
+    @Override
+    public void give(int count, Collection<? super Banknote> banknotes) throws BanknoteBoxEmptyException {
+        if (this.count < count) {
+            throw new BanknoteBoxEmptyException(String.format("Banknotes box has fewer than %d banknotes", count));
+        }
+
+        this.count -= count;
+
+        var random = ThreadLocalRandom.current();
+        for (var i = 0; i < count; i++) {
+            banknotes.add(untrackedBanknote(random));
+        }
+    }
+
+    @Override
+    public CountingBanknotesBox copy() {
+        return new CountingBanknotesBox(denomination, count, uuid);
+    }
+
+    @Override
+    public int getWorth() {
+        return count * denomination.toInt();
+    }
+
+    @Override
+    public boolean empty() {
+        return count == 0;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Creates a banknote of the box denomination, its UUID does not need a secure random as it is not tracked
+     */
+    private Banknote untrackedBanknote(ThreadLocalRandom random) {
+        return Banknote.builder()
+            .denomination(denomination)
+            .uuid(new UUID(random.nextLong(), random.nextLong()))
+            .build();
+    }
+
+    @Override
+    public String toString() {
+        return "CountingBanknotesBox{" +
+            "denomination=" + denomination +
+            ", count=" + count +
+            ", uuid=" + uuid +
+            '}';
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+
+        CountingBanknotesBox banknotesBox = (CountingBanknotesBox) other;
+
+        return Objects.equals(uuid, banknotesBox.uuid);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(uuid);
+    }
+}
@@ -44,6 +44,15 @@ public class DefaultBanknotesBox implements BanknotesBox, Serializable {
         banknotes.push(banknote);
     }
 
+    @Override
+    public void takeAll(Collection<? extends Banknote> banknotes) throws BanknoteBoxDenominationException {
+        BanknotesBoxes.throwIfAnyDenominationDiffers(this, banknotes);
+
+        for (var banknote : banknotes) {
+            this.banknotes.push(banknote);
+        }
+    }
+
     @Override
     public Banknote give() throws BanknoteBoxEmptyException {
         if (banknotes.isEmpty()) {
@@ -53,6 +62,11 @@ public class DefaultBanknotesBox implements BanknotesBox, Serializable {
         return banknotes.pop();
     }
 
+    @Override
+    public DefaultBanknotesBox copy() {
+        return new DefaultBanknotesBox(denomination, new ArrayDeque<>(banknotes), uuid);
+    }
+
     @Override
     public int getWorth() {
         return banknotes.size() * denomination.toInt();
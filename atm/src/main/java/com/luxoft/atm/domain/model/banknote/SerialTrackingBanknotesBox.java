@@ -0,0 +1,121 @@
+package com.luxoft.atm.domain.model.banknote;
+
+import com.luxoft.atm.domain.model.Denomination;
+import lombok.Builder;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * SerialTrackingBanknotesBox class <br>
+ * Tracks serials of banknotes taken by a wrapped box (e.g. a {@link CountingBanknotesBox}): <br>
+ * taken banknotes are given back in the LIFO order, banknotes the wrapped box had before are given untracked <br>
+ * The box is identified by the wrapped box, so a copy equals the original one
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@Builder
+public class SerialTrackingBanknotesBox implements BanknotesBox, Serializable {
+    private final BanknotesBox banknotesBox;
+    private final Deque<Banknote> banknotes;
+
+    private SerialTrackingBanknotesBox(
+        BanknotesBox banknotesBox,
+        Deque<Banknote> banknotes
+    ) throws IllegalArgumentException {
+        if (banknotesBox == null) {
+            throw new IllegalArgumentException("Tracked banknotes box must not be null");
+        }
+
+        this.banknotesBox = banknotesBox;
+        this.banknotes = banknotes == null ? new ArrayDeque<>() : banknotes;
+    }
+
+    /**
+     * Gets tracked banknotes, the last taken banknote is the first one
+     *
+     * @return tracked banknotes
+     */
+    public Deque<Banknote> getBanknotes() {
+        return banknotes;
+    }
+
+    @Override
+    public void take(Banknote banknote) throws BanknoteBoxDenominationException {
+        banknotesBox.take(banknote);
+        banknotes.push(banknote);
+    }
+
+    @Override
+    public void takeAll(Collection<? extends Banknote> banknotes) throws BanknoteBoxDenominationException {
+        banknotesBox.takeAll(banknotes);
+
+        for (var banknote : banknotes) {
+            this.banknotes.push(banknote);
+        }
+    }
+
+    @Override
+    public Banknote give() throws BanknoteBoxEmptyException {
+        var banknote = banknotesBox.give();
+        return banknotes.isEmpty() ? banknote : banknotes.pop();
+    }
+
+    @Override
+    public SerialTrackingBanknotesBox copy() {
+        return new SerialTrackingBanknotesBox(banknotesBox.copy(), new ArrayDeque<>(banknotes));
+    }
+
+    @Override
+    public int getWorth() {
+        return banknotesBox.getWorth();
+    }
+
+    @Override
+    public Denomination getDenomination() {
+        return banknotesBox.getDenomination();
+    }
+
+    @Override
+    public boolean empty() {
+        return banknotesBox.empty();
+    }
+
+    @Override
+    public int size() {
+        return banknotesBox.size();
+    }
+
+    @Override
+    public String toString() {
+        return "SerialTrackingBanknotesBox{" +
+            "banknotesBox=" + banknotesBox +
+            ", tracked=" + banknotes.size() +
+            '}';
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+
+        SerialTrackingBanknotesBox banknotesBox = (SerialTrackingBanknotesBox) other;
+
+        return Objects.equals(this.banknotesBox, banknotesBox.banknotesBox);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(banknotesBox);
+    }
+}
@@ -0,0 +1,334 @@
+package com.luxoft.atm.domain.model.fleet;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.atm.ATM;
+import com.luxoft.atm.domain.model.atm.ATMDisabledException;
+import com.luxoft.atm.domain.model.banknote.Banknote;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * ATMFleet class <br>
+ * Keeps ATMs by UUID and by region, a total balance and a balance index of enabled ATMs for routing <br>
+ * Every operation on an ATM goes through {@link #apply(UUID, Function)}: operations on one ATM are serialized,
+ * operations on different ATMs go in parallel. After an operation the ATM balance is read once (it is O(1))
+ * and the index and the total are updated by its change, so the total never needs a pass over the fleet <br>
+ * A registered ATM is owned by the fleet: {@link #get(UUID)} gives a view of it which goes through
+ * {@link #apply(UUID, Function)} too, an operation on the ATM made bypassing the fleet is not accounted
+ * until the next operation on it through the fleet <br>
+ * Thread-safe
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ATMFleet {
+    private static final Comparator<BalanceKey> RICHEST_FIRST = Comparator
+        .comparingInt((BalanceKey key) -> key.balance).reversed()
+        .thenComparing(key -> key.uuid);
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> regions = new ConcurrentHashMap<>();
+
+    private final NavigableSet<BalanceKey> balanceIndex = new ConcurrentSkipListSet<>(RICHEST_FIRST);
+    private final LongAdder balance = new LongAdder();
+
+    /**
+     * Registers an {@link ATM} in a region <br>
+     * The fleet owns the ATM from now on, it should be reached through the fleet only
+     *
+     * @param atm    an ATM
+     * @param region a region of the ATM
+     * @throws IllegalArgumentException if an ATM with the same UUID is already registered
+     */
+    public void register(ATM atm, String region) throws IllegalArgumentException {
+        var entry = new Entry(atm, region);
+        if (entries.putIfAbsent(atm.getUuid(), entry) != null) {
+            throw new IllegalArgumentException(String.format("ATM %s is already registered", atm.getUuid()));
+        }
+
+        regions.computeIfAbsent(region, key -> ConcurrentHashMap.newKeySet()).add(atm.getUuid());
+
+        synchronized (entry) {
+            refresh(entry);
+        }
+    }
+
+    /**
+     * Unregisters an {@link ATM}
+     *
+     * @param uuid an ATM UUID
+     * @return true if the ATM was unregistered or false if it was not found
+     */
+    public boolean unregister(UUID uuid) {
+        var entry = entries.remove(uuid);
+        if (entry == null) {
+            return false;
+        }
+
+        var regionUuids = regions.get(entry.region);
+        if (regionUuids != null) {
+            regionUuids.remove(uuid);
+        }
+
+        synchronized (entry) {
+            unindex(entry);
+            balance.add(-entry.balance);
+            entry.balance = 0;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets a view of a registered {@link ATM}, every operation on the view is applied through the fleet
+     *
+     * @param uuid an ATM UUID
+     * @return an ATM view
+     * @throws ATMNotFoundException if the ATM is not registered
+     */
+    public ATM get(UUID uuid) throws ATMNotFoundException {
+        return new FleetATM(getEntry(uuid).atm.getUuid());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets a total balance of the fleet (including disabled ATMs) as of their last operations
+     *
+     * @return a total balance
+     */
+    public long getBalance() {
+        return balance.sum();
+    }
+
+    /**
+     * Gets UUIDs of all ATMs
+     *
+     * @return ATM UUIDs
+     */
+    public Set<UUID> getUuids() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Gets UUIDs of ATMs in a region
+     *
+     * @param region a region
+     * @return ATM UUIDs
+     */
+    public Set<UUID> getUuids(String region) {
+        return Collections.unmodifiableSet(regions.getOrDefault(region, Set.of()));
+    }
+
+    /**
+     * Gets UUIDs of enabled ATMs which balance is not less than a sum, the richest first
+     *
+     * @param sum   a sum
+     * @param limit a max count of UUIDs
+     * @return ATM UUIDs
+     */
+    public List<UUID> findRichest(int sum, int limit) {
+        List<UUID> uuids = new ArrayList<>(Math.min(limit, 16));
+
+        for (var key : balanceIndex) {
+            if (key.balance < sum || uuids.size() == limit) {
+                break;
+            }
+
+            uuids.add(key.uuid);
+        }
+
+        return uuids;
+    }
+
+    /**
+     * Applies an operation to an {@link ATM} and accounts its balance change
+     *
+     * @param uuid      an ATM UUID
+     * @param operation an operation
+     * @return a result of the operation
+     * @throws ATMNotFoundException if the ATM is not registered
+     */
+    public <T> T apply(UUID uuid, Function<ATM, T> operation) throws ATMNotFoundException {
+        var entry = getEntry(uuid);
+
+        synchronized (entry) {
+            try {
+                return operation.apply(entry.atm);
+            } finally {
+                refresh(entry);
+            }
+        }
+    }
+
+    private Entry getEntry(UUID uuid) throws ATMNotFoundException {
+        var entry = entries.get(uuid);
+        if (entry == null) {
+            throw new ATMNotFoundException(String.format("ATM %s is not registered in the fleet", uuid));
+        }
+
+        return entry;
+    }
+
+    /**
+     * Reads the ATM balance and updates the index and the total, must be called under the entry lock
+     */
+    private void refresh(Entry entry) {
+        // an operation may still run on an ATM being unregistered, it is not accounted anymore
+        if (entries.get(entry.atm.getUuid()) != entry) {
+            return;
+        }
+
+        int currentBalance;
+        boolean enabled;
+        try {
+            currentBalance = entry.atm.getBalance();
+            enabled = true;
+        } catch (ATMDisabledException e) {
+            // a disabled ATM keeps its money, it is counted by its boxes but cannot be routed to
+            currentBalance = countBalance(entry.atm);
+            enabled = false;
+        }
+
+        if (entry.key != null && enabled && entry.key.balance == currentBalance) {
+            return;
+        }
+
+        unindex(entry);
+
+        balance.add(currentBalance - entry.balance);
+        entry.balance = currentBalance;
+
+        if (enabled) {
+            entry.key = new BalanceKey(currentBalance, entry.atm.getUuid());
+            balanceIndex.add(entry.key);
+        }
+    }
+
+    private static int countBalance(ATM atm) {
+        var currentBalance = 0;
+        for (var denomination : Denomination.descending()) {
+            currentBalance += atm.getBanknotesCount(denomination) * denomination.toInt();
+        }
+
+        return currentBalance;
+    }
+
+    private void unindex(Entry entry) {
+        if (entry.key != null) {
+            balanceIndex.remove(entry.key);
+            entry.key = null;
+        }
+    }
+
+    /**
+     * A view of a registered ATM which applies every operation through the fleet
+     */
+    private final class FleetATM implements ATM {
+        private final UUID uuid;
+
+        private FleetATM(UUID uuid) {
+            this.uuid = uuid;
+        }
+
+        @Override
+        public UUID getUuid() {
+            return uuid;
+        }
+
+        @Override
+        public void take(Banknote banknote) {
+            apply(uuid, atm -> {
+                atm.take(banknote);
+                return null;
+            });
+        }
+
+        @Override
+        public List<Banknote> takeAll(Collection<? extends Banknote> banknotes) {
+            return apply(uuid, atm -> atm.takeAll(banknotes));
+        }
+
+        @Override
+        public List<Banknote> give(int sum) {
+            return apply(uuid, atm -> atm.give(sum));
+        }
+
+        @Override
+        public int getBalance() {
+            return apply(uuid, ATM::getBalance);
+        }
+
+        @Override
+        public int getBanknotesCount(Denomination denomination) {
+            return apply(uuid, atm -> atm.getBanknotesCount(denomination));
+        }
+
+        @Override
+        public void backup() {
+            apply(uuid, atm -> {
+                atm.backup();
+                return null;
+            });
+        }
+
+        @Override
+        public void restore() {
+            apply(uuid, atm -> {
+                atm.restore();
+                return null;
+            });
+        }
+
+        @Override
+        public void disable() {
+            apply(uuid, atm -> {
+                atm.disable();
+                return null;
+            });
+        }
+
+        @Override
+        public void enable() {
+            apply(uuid, atm -> {
+                atm.enable();
+                return null;
+            });
+        }
+
+        @Override
+        public String toString() {
+            return apply(uuid, ATM::toString);
+        }
+    }
+
+    private static final class Entry {
+        private final ATM atm;
+        private final String region;
+
+        private int balance;
+        private BalanceKey key;
+
+        private Entry(ATM atm, String region) {
+            this.atm = atm;
+            this.region = region;
+        }
+    }
+
+    private static final class BalanceKey {
+        private final int balance;
+        private final UUID uuid;
+
+        private BalanceKey(int balance, UUID uuid) {
+            this.balance = balance;
+            this.uuid = uuid;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.luxoft.atm.domain.model.fleet;
+
+import com.luxoft.atm.domain.model.atm.ATMException;
+
+/**
+ * ATMNotFoundException class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ATMNotFoundException extends ATMException {
+    public ATMNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,705 @@
+package com.luxoft.atm.io;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.atm.DefaultATM;
+import com.luxoft.atm.domain.model.atm.history.ATMHistory;
+import com.luxoft.atm.domain.model.atm.history.ATMSnapshot;
+import com.luxoft.atm.domain.model.atm.withdrawal.WithdrawalStrategy;
+import com.luxoft.atm.domain.model.banknote.BanknotesBox;
+import com.luxoft.atm.domain.model.banknote.Box;
+import com.luxoft.atm.domain.model.banknote.CountingBanknotesBox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * ATMLedger class <br>
+ * A durable ledger of ATM operations in a directory: <br>
+ * - a write-ahead log of fixed size records: sequence (long), operation (byte), reserved (3 bytes),
+ *   a banknotes count of every denomination (int), CRC32 of the record (int) <br>
+ * - a checkpoint: magic (int), version (short), reserved (short), sequence (long), ATM UUID (2 longs),
+ *   enabled (int), history max size (int), banknote counts, backups count (int),
+ *   banknote counts of every backup, CRC32 of the checkpoint (int) <br>
+ * A count of -1 means the ATM has no box of the denomination <br>
+ * Records are collected in a buffer and written with one fsync per group (group commit): a group is committed
+ * when it is full or when its first record gets older than the max commit delay, an idle group is committed
+ * by a background flush. Operations of the last uncommitted group may be lost on a crash, but a recovered state
+ * is always some consistent prefix of operations. A torn record at the log tail is dropped on recovery <br>
+ * If the log fails to be written, it is unknown which records reached the disk, so the ledger refuses
+ * later records and it should be reopened <br>
+ * Every checkpoint interval records the ledger state is written to a new checkpoint file, which replaces
+ * the old one by an atomic rename, and the log is truncated. A failed checkpoint is retried after one more
+ * checkpoint interval, so a failing disk does not add a checkpoint write to every commit <br>
+ * Thread-safe, methods are synchronized with the background flush
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ATMLedger implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(ATMLedger.class);
+
+    public static final int DEFAULT_GROUP_SIZE = 256;
+    public static final long DEFAULT_MAX_COMMIT_DELAY_NANOS = 10_000_000L;
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1 << 20;
+
+    private static final String LOG_FILE_NAME = "atm.log";
+    private static final String CHECKPOINT_FILE_NAME = "atm.checkpoint";
+    private static final String CHECKPOINT_TEMPORARY_FILE_NAME = "atm.checkpoint.tmp";
+
+    private static final int MAGIC = 0x41544D4C;
+    private static final short VERSION = 1;
+
+    private static final int RECORD_SIZE = Long.BYTES + Integer.BYTES + Denomination.COUNT * Integer.BYTES + Integer.BYTES;
+    private static final int RECORD_CHECKSUM_OFFSET = RECORD_SIZE - Integer.BYTES;
+
+    private static final int READ_BUFFER_RECORDS = 4096;
+
+    private static final int NO_BOX = -1;
+
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "atm-ledger-flusher");
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    /**
+     * An operation of a log record
+     */
+    public enum Operation {
+        TAKE,
+        GIVE,
+        BACKUP,
+        RESTORE,
+        ENABLE,
+        DISABLE
+    }
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final Path directory;
+    private final FileChannel log;
+
+    private final long maxCommitDelayNanos;
+    private final int checkpointInterval;
+
+    private final ByteBuffer buffer;
+    private final CRC32 checksum = new CRC32();
+
+    private final int[] counts = new int[Denomination.COUNT];
+    private final Deque<int[]> backups = new ArrayDeque<>();
+
+    private UUID uuid;
+    private boolean enabled;
+    private int historyMaxSize;
+
+    private long sequence;
+    private long groupStartedAt;
+    private int recordsSinceCheckpoint;
+    private long nextCheckpointAt;
+
+    private boolean failed;
+    private ScheduledFuture<?> scheduledFlush;
+
+    private ATMLedger(
+        Path directory,
+        FileChannel log,
+        int groupSize,
+        long maxCommitDelayNanos,
+        int checkpointInterval
+    ) {
+        this.directory = directory;
+        this.log = log;
+        this.maxCommitDelayNanos = maxCommitDelayNanos;
+        this.checkpointInterval = checkpointInterval;
+        this.nextCheckpointAt = checkpointInterval;
+        this.buffer = ByteBuffer.allocateDirect(groupSize * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Opens a ledger with default settings
+     *
+     * @param directory a ledger directory (created if it does not exist)
+     * @return an opened ledger
+     * @throws IOException if unable to open or to recover the ledger
+     */
+    public static ATMLedger open(Path directory) throws IOException {
+        return open(directory, DEFAULT_GROUP_SIZE, DEFAULT_MAX_COMMIT_DELAY_NANOS, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Opens a ledger and recovers its state from the checkpoint and the log
+     *
+     * @param directory           a ledger directory (created if it does not exist)
+     * @param groupSize           a max count of records committed with one fsync (1 commits every record)
+     * @param maxCommitDelayNanos a max age of the first uncommitted record (Long.MAX_VALUE for no limit)
+     * @param checkpointInterval  a count of records between checkpoints
+     * @return an opened ledger
+     * @throws IOException if unable to open or to recover the ledger
+     * @throws IllegalStateException if the checkpoint is corrupted
+     */
+    public static ATMLedger open(
+        Path directory,
+        int groupSize,
+        long maxCommitDelayNanos,
+        int checkpointInterval
+    ) throws IOException, IllegalStateException {
+        if (groupSize <= 0 || checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Group size and checkpoint interval must be greater than 0");
+        }
+
+        Files.createDirectories(directory);
+
+        var log = FileChannel.open(
+            directory.resolve(LOG_FILE_NAME),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+
+        try {
+            var ledger = new ATMLedger(directory, log, groupSize, maxCommitDelayNanos, checkpointInterval);
+            ledger.recover();
+
+            if (maxCommitDelayNanos > 0 && maxCommitDelayNanos < Long.MAX_VALUE) {
+                ledger.scheduledFlush = FLUSHER.scheduleWithFixedDelay(
+                    ledger::flush,
+                    maxCommitDelayNanos,
+                    maxCommitDelayNanos,
+                    TimeUnit.NANOSECONDS
+                );
+            }
+
+            return ledger;
+        } catch (IOException | RuntimeException e) {
+            log.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks if the ledger has no state yet (it has never been initialized)
+     *
+     * @return true if the ledger is empty or false else
+     */
+    public synchronized boolean isEmpty() {
+        return uuid == null;
+    }
+
+    /**
+     * Initializes an empty ledger with a state of an ATM and writes the first checkpoint
+     *
+     * @param uuid           an ATM UUID
+     * @param denominations  denominations of ATM boxes, the boxes are empty
+     * @param enabled        if the ATM is enabled
+     * @param historyMaxSize a max size of the ATM history (0 for an unbounded one)
+     * @throws IOException if unable to write the checkpoint
+     * @throws IllegalStateException if the ledger is not empty
+     */
+    public synchronized void initialize(
+        UUID uuid,
+        Set<Denomination> denominations,
+        boolean enabled,
+        int historyMaxSize
+    ) throws IOException, IllegalStateException {
+        if (!isEmpty()) {
+            throw new IllegalStateException("ATM ledger is already initialized");
+        }
+
+        Arrays.fill(counts, NO_BOX);
+        for (var denomination : denominations) {
+            counts[denomination.ordinal()] = 0;
+        }
+
+        this.uuid = uuid;
+        this.enabled = enabled;
+        this.historyMaxSize = historyMaxSize;
+
+        checkpoint();
+    }
+
+    /**
+     * Appends a record without banknotes (e.g. a backup or an enabling)
+     *
+     * @param operation an operation
+     * @throws IOException if unable to commit a group
+     */
+    public synchronized void append(Operation operation) throws IOException {
+        append(operation, null, 0, null);
+    }
+
+    /**
+     * Appends a record of banknotes of one denomination
+     *
+     * @param operation    an operation
+     * @param denomination a denomination of banknotes
+     * @param count        a count of banknotes
+     * @throws IOException if unable to commit a group
+     */
+    public synchronized void append(Operation operation, Denomination denomination, int count) throws IOException {
+        append(operation, denomination, count, null);
+    }
+
+    /**
+     * Appends a record of banknotes of several denominations
+     *
+     * @param operation          an operation
+     * @param countsByDenomination banknote counts indexed by denomination ordinals
+     * @throws IOException if unable to commit a group
+     */
+    public synchronized void append(Operation operation, int[] countsByDenomination) throws IOException {
+        append(operation, null, 0, countsByDenomination);
+    }
+
+    /**
+     * Writes all appended records and forces them to the disk
+     *
+     * @throws IOException if unable to write the log
+     */
+    public synchronized void commit() throws IOException {
+        throwIfFailed();
+
+        if (buffer.position() == 0) {
+            return;
+        }
+
+        try {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                log.write(buffer);
+            }
+
+            buffer.clear();
+            log.force(false);
+        } catch (IOException e) {
+            failed = true;
+            throw e;
+        }
+
+        if (recordsSinceCheckpoint >= nextCheckpointAt) {
+            try {
+                checkpoint();
+            } catch (IOException e) {
+                // the records are durable in the log already, so the checkpoint is retried after one more interval
+                nextCheckpointAt = (long) recordsSinceCheckpoint + checkpointInterval;
+                logger.error("Unable to checkpoint the ATM ledger in {}, {} records are in the log",
+                    directory, recordsSinceCheckpoint, e);
+            }
+        }
+    }
+
+    /**
+     * Commits appended records if the first of them is older than the max commit delay
+     *
+     * @throws IOException if unable to write the log
+     */
+    public synchronized void commitIfDue() throws IOException {
+        if (buffer.position() > 0 && System.nanoTime() - groupStartedAt >= maxCommitDelayNanos) {
+            commit();
+        }
+    }
+
+    /**
+     * Writes the ledger state to a new checkpoint and truncates the log once the checkpoint and its rename are durable
+     *
+     * @throws IOException if unable to write the checkpoint
+     */
+    public synchronized void checkpoint() throws IOException {
+        commit();
+
+        var checkpointSize = Integer.BYTES + Short.BYTES * 2 + Long.BYTES * 3 + Integer.BYTES * 2
+            + Denomination.COUNT * Integer.BYTES * (1 + backups.size()) + Integer.BYTES * 2;
+
+        var checkpoint = ByteBuffer.allocate(checkpointSize).order(ByteOrder.LITTLE_ENDIAN);
+        checkpoint.putInt(MAGIC)
+            .putShort(VERSION)
+            .putShort((short) 0)
+            .putLong(sequence)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .putInt(enabled ? 1 : 0)
+            .putInt(historyMaxSize);
+
+        putCounts(checkpoint, counts);
+
+        checkpoint.putInt(backups.size());
+        for (var backup : backups) {
+            putCounts(checkpoint, backup);
+        }
+
+        checksum.reset();
+        checksum.update(checkpoint.array(), 0, checkpoint.position());
+        checkpoint.putInt((int) checksum.getValue());
+        checkpoint.flip();
+
+        var temporaryPath = directory.resolve(CHECKPOINT_TEMPORARY_FILE_NAME);
+        try (
+            var channel = FileChannel.open(
+                temporaryPath,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            )
+        ) {
+            while (checkpoint.hasRemaining()) {
+                channel.write(checkpoint);
+            }
+
+            channel.force(true);
+        }
+
+        Files.move(
+            temporaryPath,
+            directory.resolve(CHECKPOINT_FILE_NAME),
+            StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING
+        );
+
+        // the rename must be durable before the log is truncated, otherwise a crash may bring back
+        // the old checkpoint with an empty log
+        forceDirectory();
+
+        // records left in the log after a crash right here are older than the checkpoint, so they are skipped
+        log.truncate(0);
+        log.position(0);
+        recordsSinceCheckpoint = 0;
+        nextCheckpointAt = checkpointInterval;
+    }
+
+    /**
+     * Builds an ATM with the ledger state: a box of every denomination is a {@link CountingBanknotesBox}
+     *
+     * @return a recovered ATM
+     * @throws IllegalStateException if the ledger is empty
+     */
+    public DefaultATM toATM() throws IllegalStateException {
+        return toATM(null);
+    }
+
+    /**
+     * Builds an ATM with the ledger state and a withdrawal strategy
+     *
+     * @param withdrawalStrategy a withdrawal strategy (null for the default one)
+     * @return a recovered ATM
+     * @throws IllegalStateException if the ledger is empty
+     * @see #toATM()
+     */
+    public synchronized DefaultATM toATM(WithdrawalStrategy withdrawalStrategy) throws IllegalStateException {
+        if (isEmpty()) {
+            throw new IllegalStateException("ATM ledger is not initialized");
+        }
+
+        var history = ATMHistory.builder()
+            .maxSize(historyMaxSize)
+            .build();
+
+        for (var iterator = backups.descendingIterator(); iterator.hasNext(); ) {
+            history.push(ATMSnapshot.builder().box(boxOf(iterator.next())).build());
+        }
+
+        return DefaultATM.builder()
+            .box(boxOf(counts))
+            .uuid(uuid)
+            .enabled(enabled)
+            .history(history)
+            .withdrawalStrategy(withdrawalStrategy)
+            .build();
+    }
+
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    public synchronized int getBackupsCount() {
+        return backups.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+        }
+
+        try {
+            if (!failed && log.isOpen()) {
+                commit();
+            }
+        } finally {
+            log.close();
+        }
+    }
+
+    /**
+     * Commits an idle group in the background, a failure is reported by the next append or commit
+     */
+    private synchronized void flush() {
+        if (failed || !log.isOpen()) {
+            return;
+        }
+
+        try {
+            commitIfDue();
+        } catch (IOException e) {
+            // the failed commit has marked the ledger as failed already
+        }
+    }
+
+    private void forceDirectory() throws IOException {
+        try (var channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private void throwIfFailed() throws IOException {
+        if (failed) {
+            throw new IOException("ATM ledger failed to write the log, it should be reopened");
+        }
+    }
+
+    private void append(
+        Operation operation,
+        Denomination denomination,
+        int count,
+        int[] countsByDenomination
+    ) throws IOException, IllegalStateException {
+        if (isEmpty()) {
+            throw new IllegalStateException("ATM ledger is not initialized");
+        }
+
+        throwIfFailed();
+
+        apply(operation, denomination, count, countsByDenomination);
+        sequence++;
+
+        if (buffer.position() == 0) {
+            groupStartedAt = System.nanoTime();
+        }
+
+        var start = buffer.position();
+        buffer.putLong(sequence)
+            .put((byte) operation.ordinal())
+            .put((byte) 0)
+            .putShort((short) 0);
+
+        for (var i = 0; i < Denomination.COUNT; i++) {
+            if (countsByDenomination != null) {
+                buffer.putInt(countsByDenomination[i]);
+            } else {
+                buffer.putInt(denomination != null && denomination.ordinal() == i ? count : 0);
+            }
+        }
+
+        buffer.putInt(checksumOf(buffer, start));
+        recordsSinceCheckpoint++;
+
+        if (!buffer.hasRemaining() || System.nanoTime() - groupStartedAt >= maxCommitDelayNanos) {
+            commit();
+        }
+    }
+
+    /**
+     * Applies an operation to the ledger state, it is the same for appending and for replaying
+     */
+    private void apply(
+        Operation operation,
+        Denomination denomination,
+        int count,
+        int[] countsByDenomination
+    ) throws IllegalStateException {
+        switch (operation) {
+            case TAKE:
+            case GIVE:
+                var sign = operation == Operation.TAKE ? 1 : -1;
+                if (countsByDenomination == null) {
+                    counts[denomination.ordinal()] += sign * count;
+                    break;
+                }
+
+                for (var i = 0; i < Denomination.COUNT; i++) {
+                    counts[i] += sign * countsByDenomination[i];
+                }
+
+                break;
+            case BACKUP:
+                backups.push(counts.clone());
+                if (historyMaxSize > 0 && backups.size() > historyMaxSize) {
+                    backups.removeLast();
+                }
+
+                break;
+            case RESTORE:
+                var backup = backups.poll();
+                if (backup == null) {
+                    throw new IllegalStateException("ATM ledger has a restore without a backup");
+                }
+
+                System.arraycopy(backup, 0, counts, 0, Denomination.COUNT);
+                break;
+            case ENABLE:
+                enabled = true;
+                break;
+            case DISABLE:
+                enabled = false;
+                break;
+        }
+    }
+
+    private void recover() throws IOException, IllegalStateException {
+        var checkpointPath = directory.resolve(CHECKPOINT_FILE_NAME);
+        if (!Files.exists(checkpointPath)) {
+            // a log without a checkpoint is left by a crash before the first checkpoint, it has no state
+            log.truncate(0);
+            return;
+        }
+
+        readCheckpoint(ByteBuffer.wrap(Files.readAllBytes(checkpointPath)).order(ByteOrder.LITTLE_ENDIAN));
+
+        var checkpointSequence = sequence;
+        var validSize = 0L;
+
+        var records = ByteBuffer.allocateDirect(READ_BUFFER_RECORDS * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        var recordCounts = new int[Denomination.COUNT];
+
+        log.position(0);
+
+        var endOfLog = false;
+        reading:
+        while (!endOfLog) {
+            endOfLog = log.read(records) < 0;
+            records.flip();
+
+            while (records.remaining() >= RECORD_SIZE) {
+                var start = records.position();
+                if (checksumOf(records, start) != records.getInt(start + RECORD_CHECKSUM_OFFSET)) {
+                    break reading;
+                }
+
+                var recordSequence = records.getLong(start);
+                var operationIndex = records.get(start + Long.BYTES);
+                if (operationIndex < 0 || operationIndex >= OPERATIONS.length) {
+                    break reading;
+                }
+
+                // records older than the checkpoint are left by a crash right before the log truncation
+                if (recordSequence > checkpointSequence) {
+                    if (recordSequence != sequence + 1) {
+                        break reading;
+                    }
+
+                    for (var i = 0; i < Denomination.COUNT; i++) {
+                        recordCounts[i] = records.getInt(start + Long.BYTES + Integer.BYTES + i * Integer.BYTES);
+                    }
+
+                    apply(OPERATIONS[operationIndex], null, 0, recordCounts);
+                    sequence = recordSequence;
+                    recordsSinceCheckpoint++;
+                }
+
+                records.position(start + RECORD_SIZE);
+                validSize += RECORD_SIZE;
+            }
+
+            records.compact();
+        }
+
+        // a torn or a corrupted tail is dropped, new records are appended right after the valid ones
+        log.truncate(validSize);
+        log.position(validSize);
+    }
+
+    private void readCheckpoint(ByteBuffer checkpoint) throws IllegalStateException {
+        if (checkpoint.remaining() < Integer.BYTES * 2) {
+            throw new IllegalStateException("ATM ledger checkpoint is too short");
+        }
+
+        var checksumOffset = checkpoint.limit() - Integer.BYTES;
+
+        checksum.reset();
+        checksum.update(checkpoint.array(), 0, checksumOffset);
+        if ((int) checksum.getValue() != checkpoint.getInt(checksumOffset)) {
+            throw new IllegalStateException("ATM ledger checkpoint is corrupted");
+        }
+
+        if (checkpoint.getInt() != MAGIC) {
+            throw new IllegalStateException("ATM ledger checkpoint has a wrong magic number");
+        }
+
+        var version = checkpoint.getShort();
+        if (version != VERSION) {
+            throw new IllegalStateException(String.format("Unsupported ATM ledger checkpoint version %d", version));
+        }
+
+        checkpoint.getShort();
+        sequence = checkpoint.getLong();
+        uuid = new UUID(checkpoint.getLong(), checkpoint.getLong());
+        enabled = checkpoint.getInt() != 0;
+        historyMaxSize = checkpoint.getInt();
+
+        getCounts(checkpoint, counts);
+
+        var backupsCount = checkpoint.getInt();
+        for (var i = 0; i < backupsCount; i++) {
+            var backup = new int[Denomination.COUNT];
+            getCounts(checkpoint, backup);
+
+            backups.addLast(backup);
+        }
+    }
+
+    /**
+     * Computes CRC32 of a record starting at a position without changing the buffer position and limit
+     */
+    private int checksumOf(ByteBuffer records, int start) {
+        var position = records.position();
+        var limit = records.limit();
+
+        checksum.reset();
+        records.limit(start + RECORD_CHECKSUM_OFFSET).position(start);
+        checksum.update(records);
+        records.limit(limit).position(position);
+
+        return (int) checksum.getValue();
+    }
+
+    private static void putCounts(ByteBuffer buffer, int[] counts) {
+        for (var count : counts) {
+            buffer.putInt(count);
+        }
+    }
+
+    private static void getCounts(ByteBuffer buffer, int[] counts) {
+        for (var i = 0; i < counts.length; i++) {
+            counts[i] = buffer.getInt();
+        }
+    }
+
+    private static Box boxOf(int[] counts) {
+        Set<BanknotesBox> banknoteBoxes = new HashSet<>();
+        for (var denomination : Denomination.descending()) {
+            var count = counts[denomination.ordinal()];
+            if (count == NO_BOX) {
+                continue;
+            }
+
+            banknoteBoxes.add(CountingBanknotesBox.builder().denomination(denomination).count(count).build());
+        }
+
+        return Box.builder().banknoteBoxes(banknoteBoxes).build();
+    }
+}
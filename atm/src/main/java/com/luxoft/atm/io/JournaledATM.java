@@ -0,0 +1,275 @@
+package com.luxoft.atm.io;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.atm.*;
+import com.luxoft.atm.domain.model.atm.history.ATMHistoryEmptyException;
+import com.luxoft.atm.domain.model.atm.withdrawal.MinimalNotesWithdrawalStrategy;
+import com.luxoft.atm.domain.model.atm.withdrawal.WithdrawalStrategy;
+import com.luxoft.atm.domain.model.banknote.Banknote;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JournaledATM class <br>
+ * A {@link DefaultATM} which records every successful operation in an {@link ATMLedger}, so its state
+ * survives a restart: an opened ATM is rebuilt from the ledger checkpoint and the log replay <br>
+ * An operation is checked without changing the ATM, recorded and only then applied (write-ahead):
+ * a withdrawal is recorded by the withdrawal strategy of the ATM once the plan is made, and it is committed
+ * to the disk before banknotes are given, other operations are committed with their group. If the ledger fails to write a record, an {@link UncheckedIOException} is thrown
+ * and the ATM is left unchanged <br>
+ * Not thread-safe
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class JournaledATM implements ATM, Closeable {
+    private final DefaultATM atm;
+    private final ATMLedger ledger;
+
+    private final int[] counts = new int[Denomination.COUNT];
+    private final boolean[] boxes = new boolean[Denomination.COUNT];
+
+    private JournaledATM(ATMLedger ledger) {
+        this.ledger = ledger;
+        this.atm = ledger.toATM(new JournalingWithdrawalStrategy());
+
+        // boxes are never added or removed, a restore brings back boxes of the same denominations
+        for (var banknotesBox : atm.getBox().getBanknoteBoxes()) {
+            boxes[banknotesBox.getDenomination().ordinal()] = true;
+        }
+    }
+
+    /**
+     * Opens an ATM with a ledger in a directory with default settings
+     *
+     * @see #open(ATMLedger, Set, int)
+     */
+    public static JournaledATM open(Path directory, Set<Denomination> denominations) throws IOException {
+        var ledger = ATMLedger.open(directory);
+
+        try {
+            return open(ledger, denominations, 0);
+        } catch (IOException | RuntimeException e) {
+            ledger.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens an ATM with a ledger: recovers it if the ledger has a state or creates a new one else
+     *
+     * @param ledger         an opened ledger, it is closed with the ATM
+     * @param denominations  denominations of boxes of a new ATM (ignored if the ATM is recovered)
+     * @param historyMaxSize a max size of a new ATM history (ignored if the ATM is recovered)
+     * @return an opened ATM
+     * @throws IOException if unable to initialize the ledger
+     */
+    public static JournaledATM open(
+        ATMLedger ledger,
+        Set<Denomination> denominations,
+        int historyMaxSize
+    ) throws IOException {
+        if (ledger.isEmpty()) {
+            ledger.initialize(UUID.randomUUID(), denominations, true, historyMaxSize);
+        }
+
+        return new JournaledATM(ledger);
+    }
+
+    @Override
+    public UUID getUuid() {
+        return atm.getUuid();
+    }
+
+    @Override
+    public void take(Banknote banknote) throws ATMBanknotesBoxNotFoundException, ATMDisabledException {
+        throwIfDisabled();
+
+        var denomination = banknote.getDenomination();
+        if (!boxes[denomination.ordinal()]) {
+            var errorMessagePattern = "A suitable banknote box not found for the \"%s\" banknote denomination";
+            throw new ATMBanknotesBoxNotFoundException(String.format(errorMessagePattern, denomination));
+        }
+
+        append(ATMLedger.Operation.TAKE, denomination, 1);
+        atm.take(banknote);
+    }
+
+    @Override
+    public List<Banknote> takeAll(Collection<? extends Banknote> banknotes) throws ATMDisabledException {
+        throwIfDisabled();
+
+        Arrays.fill(counts, 0);
+
+        var takenCount = 0;
+        for (var banknote : banknotes) {
+            var ordinal = banknote.getDenomination().ordinal();
+            if (boxes[ordinal]) {
+                counts[ordinal]++;
+                takenCount++;
+            }
+        }
+
+        if (takenCount > 0) {
+            append(ATMLedger.Operation.TAKE, counts);
+        }
+
+        return atm.takeAll(banknotes);
+    }
+
+    @Override
+    public List<Banknote> give(
+        int sum
+    ) throws ATMIncorrectSumException, ATMInsufficientBalanceException, ATMDisabledException {
+        // the withdrawal is recorded by the strategy between planning and giving banknotes
+        return atm.give(sum);
+    }
+
+    @Override
+    public int getBalance() throws ATMDisabledException {
+        return atm.getBalance();
+    }
+
+    @Override
+    public int getBanknotesCount(Denomination denomination) {
+        return atm.getBanknotesCount(denomination);
+    }
+
+    @Override
+    public void backup() throws ATMDisabledException {
+        throwIfDisabled();
+
+        append(ATMLedger.Operation.BACKUP, null, 0);
+        atm.backup();
+    }
+
+    @Override
+    public void restore() throws ATMHistoryEmptyException, ATMDisabledException {
+        throwIfDisabled();
+
+        // the ledger keeps the same backups as the ATM history
+        if (ledger.getBackupsCount() == 0) {
+            throw new ATMHistoryEmptyException("ATM History is empty now", null);
+        }
+
+        append(ATMLedger.Operation.RESTORE, null, 0);
+        atm.restore();
+    }
+
+    public boolean enabled() {
+        return atm.enabled();
+    }
+
+    @Override
+    public void disable() {
+        append(ATMLedger.Operation.DISABLE, null, 0);
+        atm.disable();
+    }
+
+    @Override
+    public void enable() {
+        append(ATMLedger.Operation.ENABLE, null, 0);
+        atm.enable();
+    }
+
+    /**
+     * Makes all recorded operations durable right away, without waiting for their group to be committed
+     *
+     * @throws IOException if unable to write the ledger
+     */
+    public void commit() throws IOException {
+        ledger.commit();
+    }
+
+    @Override
+    public void close() throws IOException {
+        ledger.close();
+    }
+
+    private void throwIfDisabled() throws ATMDisabledException {
+        if (!atm.enabled()) {
+            throw new ATMDisabledException("ATM is disabled now");
+        }
+    }
+
+    private void commitRecords() {
+        try {
+            ledger.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void append(ATMLedger.Operation operation, Denomination denomination, int count) {
+        try {
+            if (denomination == null) {
+                ledger.append(operation);
+            } else {
+                ledger.append(operation, denomination, count);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void append(ATMLedger.Operation operation, int[] countsByDenomination) {
+        try {
+            ledger.append(operation, countsByDenomination);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Records a planned withdrawal before the ATM gives banknotes, a failed record fails the withdrawal
+     */
+    private final class JournalingWithdrawalStrategy implements WithdrawalStrategy {
+        private final WithdrawalStrategy withdrawalStrategy = new MinimalNotesWithdrawalStrategy();
+
+        @Override
+        public int[] plan(int sum, int[] values, int[] counts) {
+            var plan = withdrawalStrategy.plan(sum, values, counts);
+            if (plan == null) {
+                return null;
+            }
+
+            Arrays.fill(JournaledATM.this.counts, 0);
+            for (var i = 0; i < plan.length; i++) {
+                JournaledATM.this.counts[ordinalOf(values[i])] += plan[i];
+            }
+
+            // given banknotes cannot be taken back, so their record must survive a crash
+            append(ATMLedger.Operation.GIVE, JournaledATM.this.counts);
+            commitRecords();
+
+            return plan;
+        }
+
+        private int ordinalOf(int value) {
+            for (var denomination : Denomination.descending()) {
+                if (denomination.toInt() == value) {
+                    return denomination.ordinal();
+                }
+            }
+
+            throw new IllegalStateException(String.format("Unknown banknote value %d", value));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JournaledATM{" +
+            "atm=" + atm +
+            ", sequence=" + ledger.getSequence() +
+            '}';
+    }
+}
@@ -0,0 +1,160 @@
+package com.luxoft.atm.metrics;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.atm.ATM;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ATMMetrics class <br>
+ * Keeps a latency histogram and outcome counters of every ATM service operation and exports them
+ * with banknote stocks of registered ATMs to an {@link ATMMetricsExporter} <br>
+ * Nothing is measured until an exporter is attached: {@link #start()} does not read the clock
+ * and {@link #record(Operation, Outcome, long)} returns right away, so the metrics cost nothing when unused <br>
+ * Thread-safe
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ATMMetrics {
+    /**
+     * An ATM service operation
+     */
+    public enum Operation {
+        DEPOSIT,
+        WITHDRAW,
+        CHECK_BALANCE,
+        BACKUP,
+        RESTORE,
+        DISABLE,
+        ENABLE
+    }
+
+    /**
+     * An outcome of an ATM service operation
+     */
+    public enum Outcome {
+        SUCCESS,
+        INSUFFICIENT_BALANCE,
+        INCORRECT_SUM,
+        DISABLED,
+        HISTORY_EMPTY
+    }
+
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+    private final LongAdder[] outcomes = new LongAdder[OPERATIONS.length * OUTCOMES.length];
+
+    private final List<ATM> stockedATMs = new CopyOnWriteArrayList<>();
+
+    private volatile ATMMetricsExporter exporter;
+
+    public ATMMetrics() {
+        for (var i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+
+        for (var i = 0; i < outcomes.length; i++) {
+            outcomes[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Attaches an exporter, operations are measured from now on
+     *
+     * @param exporter an exporter
+     */
+    public void attach(ATMMetricsExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    /**
+     * Detaches an exporter, operations are not measured anymore
+     */
+    public void detach() {
+        this.exporter = null;
+    }
+
+    public boolean enabled() {
+        return exporter != null;
+    }
+
+    /**
+     * Registers an {@link ATM} whose banknote stocks should be exported
+     *
+     * @param atm an ATM
+     */
+    public void registerStock(ATM atm) {
+        stockedATMs.add(atm);
+    }
+
+    public void unregisterStock(ATM atm) {
+        stockedATMs.remove(atm);
+    }
+
+    /**
+     * Starts measuring an operation
+     *
+     * @return a start time to pass to {@link #record(Operation, Outcome, long)}
+     */
+    public long start() {
+        return exporter == null ? NOT_STARTED : System.nanoTime();
+    }
+
+    /**
+     * Records an operation outcome and its latency since its start
+     *
+     * @param operation an operation
+     * @param outcome   an outcome
+     * @param startedAt a start time got from {@link #start()}
+     */
+    public void record(Operation operation, Outcome outcome, long startedAt) {
+        // an exporter may be attached while the operation was running, then its latency is not known
+        if (exporter == null || startedAt == NOT_STARTED) {
+            return;
+        }
+
+        latencies[operation.ordinal()].record(System.nanoTime() - startedAt);
+        outcomes[operation.ordinal() * OUTCOMES.length + outcome.ordinal()].increment();
+    }
+
+    public LatencyHistogram getLatency(Operation operation) {
+        return latencies[operation.ordinal()];
+    }
+
+    public long getCount(Operation operation, Outcome outcome) {
+        return outcomes[operation.ordinal() * OUTCOMES.length + outcome.ordinal()].sum();
+    }
+
+    /**
+     * Exports all metrics to the attached exporter, it is expected to be called periodically
+     * (e.g. by a scheduled executor)
+     */
+    public void export() {
+        var currentExporter = exporter;
+        if (currentExporter == null) {
+            return;
+        }
+
+        for (var operation : OPERATIONS) {
+            currentExporter.exportLatency(operation, latencies[operation.ordinal()]);
+
+            for (var outcome : OUTCOMES) {
+                currentExporter.exportCount(operation, outcome, getCount(operation, outcome));
+            }
+        }
+
+        for (var atm : stockedATMs) {
+            for (var denomination : Denomination.descending()) {
+                currentExporter.exportStock(atm.getUuid(), denomination, atm.getBanknotesCount(denomination));
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.luxoft.atm.metrics;
+
+import com.luxoft.atm.domain.model.Denomination;
+
+import java.util.UUID;
+
+/**
+ * ATMMetricsExporter interface <br>
+ * Receives metrics on every {@link ATMMetrics#export()} call
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public interface ATMMetricsExporter {
+    /**
+     * Exports a latency histogram of an operation
+     *
+     * @param operation an operation
+     * @param histogram a latency histogram (in nanoseconds) of all operation calls so far
+     */
+    void exportLatency(ATMMetrics.Operation operation, LatencyHistogram histogram);
+
+    /**
+     * Exports a count of operation calls with an outcome
+     *
+     * @param operation an operation
+     * @param outcome   an outcome
+     * @param count     a count of calls so far
+     */
+    void exportCount(ATMMetrics.Operation operation, ATMMetrics.Outcome outcome, long count);
+
+    /**
+     * Exports a banknotes stock of an ATM
+     *
+     * @param atmUuid      an ATM UUID
+     * @param denomination a denomination
+     * @param count        a count of banknotes
+     */
+    void exportStock(UUID atmUuid, Denomination denomination, int count);
+}
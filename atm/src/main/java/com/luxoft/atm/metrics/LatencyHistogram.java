@@ -0,0 +1,120 @@
+package com.luxoft.atm.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram class <br>
+ * A histogram of latencies in nanoseconds with log-linear buckets (like HdrHistogram): every power of 2
+ * is split into {@link #SUB_BUCKETS_COUNT} / 2 equal buckets, so a recorded value is kept with a relative error
+ * less than 2% and the whole range of long values takes a few thousands of counters <br>
+ * Recording is allocation-free and lock-free. Reading while recording gives a nearly consistent view <br>
+ * Thread-safe
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+
+    public static final int SUB_BUCKETS_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private static final int HALF_SUB_BUCKETS_COUNT = SUB_BUCKETS_COUNT / 2;
+    private static final int BUCKETS_COUNT = indexOf(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Records a latency
+     *
+     * @param nanos a latency in nanoseconds (a negative one is recorded as 0)
+     */
+    public void record(long nanos) {
+        var value = Math.max(nanos, 0L);
+
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+        totalValue.add(value);
+
+        var max = maxValue.get();
+        while (value > max && !maxValue.compareAndSet(max, value)) {
+            max = maxValue.get();
+        }
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Gets a mean of recorded latencies
+     *
+     * @return a mean latency in nanoseconds or 0 if nothing is recorded
+     */
+    public double getMean() {
+        var count = totalCount.sum();
+        return count == 0 ? 0 : (double) totalValue.sum() / count;
+    }
+
+    /**
+     * Gets a latency which the percentage of recorded latencies is less than or equal to
+     *
+     * @param percentile a percentile (from 0 to 100)
+     * @return the highest latency of the percentile bucket in nanoseconds or 0 if nothing is recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        var count = 0L;
+        for (var i = 0; i < BUCKETS_COUNT; i++) {
+            count += counts.get(i);
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+
+        var rank = Math.max(1L, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+
+        var cumulativeCount = 0L;
+        for (var i = 0; i < BUCKETS_COUNT; i++) {
+            cumulativeCount += counts.get(i);
+            if (cumulativeCount >= rank) {
+                return Math.min(highestValueOf(i), maxValue.get());
+            }
+        }
+
+        return maxValue.get();
+    }
+
+    /**
+     * Values less than {@link #SUB_BUCKETS_COUNT} have their own buckets, bigger ones are shifted, so they fall
+     * into the upper half of sub buckets, and every shift has its own half of buckets
+     */
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS_COUNT) {
+            return (int) value;
+        }
+
+        var shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * HALF_SUB_BUCKETS_COUNT + (int) (value >>> shift);
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS_COUNT) {
+            return index;
+        }
+
+        var shift = index / HALF_SUB_BUCKETS_COUNT - 1;
+        var subBucket = index - shift * HALF_SUB_BUCKETS_COUNT;
+
+        return ((long) subBucket << shift) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,53 @@
+package com.luxoft.atm.metrics;
+
+import com.luxoft.atm.domain.model.Denomination;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+
+/**
+ * LoggingATMMetricsExporter class <br>
+ * Writes metrics to the log, operations which were never called are skipped
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class LoggingATMMetricsExporter implements ATMMetricsExporter {
+    private static final Logger logger = LoggerFactory.getLogger(LoggingATMMetricsExporter.class);
+
+    private static final long NANOS_PER_MICRO = 1_000L;
+
+    @Override
+    public void exportLatency(ATMMetrics.Operation operation, LatencyHistogram histogram) {
+        if (histogram.getCount() == 0) {
+            return;
+        }
+
+        logger.info(
+            "Operation {} latency (us): count={}, mean={}, p50={}, p99={}, p99.9={}, max={}",
+            operation,
+            histogram.getCount(),
+            (long) histogram.getMean() / NANOS_PER_MICRO,
+            histogram.getValueAtPercentile(50) / NANOS_PER_MICRO,
+            histogram.getValueAtPercentile(99) / NANOS_PER_MICRO,
+            histogram.getValueAtPercentile(99.9) / NANOS_PER_MICRO,
+            histogram.getMax() / NANOS_PER_MICRO
+        );
+    }
+
+    @Override
+    public void exportCount(ATMMetrics.Operation operation, ATMMetrics.Outcome outcome, long count) {
+        if (count == 0) {
+            return;
+        }
+
+        logger.info("Operation {} outcome {}: {}", operation, outcome, count);
+    }
+
+    @Override
+    public void exportStock(UUID atmUuid, Denomination denomination, int count) {
+        logger.info("ATM {} stock of {}: {}", atmUuid, denomination, count);
+    }
+}
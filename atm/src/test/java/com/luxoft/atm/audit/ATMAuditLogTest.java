@@ -0,0 +1,86 @@
+package com.luxoft.atm.audit;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.banknote.Banknote;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ATMAuditLogTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ATMAuditLogTest {
+    @Test
+    public void summarize() throws Exception {
+        // given
+        var banknote100 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .build();
+
+        var anotherBanknote100 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .build();
+
+        var banknote2000 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_2000)
+            .build();
+
+        // when
+        var summary = ATMAuditLog.summarize(List.of(banknote100, banknote2000, anotherBanknote100));
+
+        // then
+        assertThat(summary).isEqualTo("notes=3 total=2200 counts=2000x1,100x2");
+    }
+
+    @Test
+    public void summarizeWhenBanknotesAreEmpty() throws Exception {
+        // when
+        var summary = ATMAuditLog.summarize(List.of());
+
+        // then
+        assertThat(summary).isEqualTo("notes=0 total=0 counts=");
+    }
+
+    @Test
+    public void sampled() throws Exception {
+        // given
+        var auditLog = ATMAuditLog.builder()
+            .detailed(true)
+            .detailSamplingRate(3)
+            .build();
+
+        // when
+        var samples = 0;
+        for (var i = 0; i < 9; i++) {
+            samples += auditLog.sampled() ? 1 : 0;
+        }
+
+        // then
+        assertThat(samples).isEqualTo(3);
+    }
+
+    @Test
+    public void sampledWhenDetailIsOff() throws Exception {
+        // given
+        var auditLog = ATMAuditLog.builder()
+            .detailSamplingRate(1)
+            .build();
+
+        // when / then
+        assertThat(auditLog.sampled()).isFalse();
+    }
+
+    @Test
+    public void buildWhenDetailSamplingRateIsNegative() throws Exception {
+        // when / then
+        assertThatThrownBy(() -> ATMAuditLog.builder().detailSamplingRate(-1).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
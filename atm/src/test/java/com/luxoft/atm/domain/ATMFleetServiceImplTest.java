@@ -0,0 +1,210 @@
+package com.luxoft.atm.domain;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.atm.ATM;
+import com.luxoft.atm.domain.model.atm.ATMDisabledException;
+import com.luxoft.atm.domain.model.atm.ATMIncorrectSumException;
+import com.luxoft.atm.domain.model.atm.ATMInsufficientBalanceException;
+import com.luxoft.atm.domain.model.atm.ConcurrentATM;
+import com.luxoft.atm.domain.model.atm.history.ATMHistory;
+import com.luxoft.atm.domain.model.banknote.Banknote;
+import com.luxoft.atm.domain.model.banknote.BanknotesBox;
+import com.luxoft.atm.domain.model.banknote.Box;
+import com.luxoft.atm.domain.model.banknote.CountingBanknotesBox;
+import com.luxoft.atm.domain.model.fleet.ATMFleet;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ATMFleetServiceImplTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ATMFleetServiceImplTest {
+    @Test
+    public void deposit() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+        var service = new ATMFleetServiceImpl(fleet);
+
+        var atm = atmOf(Denomination.DENOMINATION_1000, 1, null);
+        service.register(atm, "north");
+
+        Set<Banknote> banknotes = Set.of(
+            Banknote.builder().denomination(Denomination.DENOMINATION_1000).build(),
+            Banknote.builder().denomination(Denomination.DENOMINATION_100).build()
+        );
+
+        // when
+        var nonDepositedBanknotes = service.deposit(banknotes, atm.getUuid());
+
+        // then
+        assertThat(nonDepositedBanknotes.size()).isEqualTo(1);
+        assertThat(service.checkBalance()).isEqualTo(2000L);
+    }
+
+    @Test
+    public void withdrawWhenRichestATMCannotDenominateSum() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+        var service = new ATMFleetServiceImpl(fleet);
+
+        var atm5000 = atmOf(Denomination.DENOMINATION_5000, 2, null);
+        var atm1000 = atmOf(Denomination.DENOMINATION_1000, 3, null);
+
+        service.register(atm5000, "north");
+        service.register(atm1000, "south");
+
+        // when
+        var banknotes = service.withdraw(2000);
+
+        // then
+        assertThat(banknotes.size()).isEqualTo(2);
+        assertThat(atm5000.getBalance()).isEqualTo(10000);
+        assertThat(atm1000.getBalance()).isEqualTo(1000);
+        assertThat(service.checkBalance()).isEqualTo(11000L);
+    }
+
+    @Test
+    public void withdrawWhenNoOneATMCanGiveSum() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+        var service = new ATMFleetServiceImpl(fleet);
+
+        service.register(atmOf(Denomination.DENOMINATION_1000, 3, null), "north");
+        service.register(atmOf(Denomination.DENOMINATION_1000, 3, null), "south");
+
+        // when / then
+        assertThatThrownBy(() -> service.withdraw(4000)).isInstanceOf(ATMInsufficientBalanceException.class);
+        assertThat(service.checkBalance()).isEqualTo(6000L);
+    }
+
+    @Test
+    public void withdrawWhenSumIsNotPositive() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+        var service = new ATMFleetServiceImpl(fleet);
+
+        service.register(atmOf(Denomination.DENOMINATION_1000, 3, null), "north");
+
+        // when / then
+        assertThatThrownBy(() -> service.withdraw(0)).isInstanceOf(ATMIncorrectSumException.class);
+        assertThatThrownBy(() -> service.withdraw(-1000)).isInstanceOf(ATMIncorrectSumException.class);
+        assertThat(service.checkBalance()).isEqualTo(3000L);
+    }
+
+    @Test
+    public void withdrawWhenEveryATMCannotDenominateSum() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+        var service = new ATMFleetServiceImpl(fleet);
+
+        service.register(atmOf(Denomination.DENOMINATION_1000, 3, null), "north");
+        service.register(atmOf(Denomination.DENOMINATION_1000, 2, null), "south");
+
+        // when / then
+        assertThatThrownBy(() -> service.withdraw(1500)).isInstanceOf(ATMIncorrectSumException.class);
+        assertThat(service.checkBalance()).isEqualTo(5000L);
+    }
+
+    @Test
+    public void disableRegion() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+        var service = new ATMFleetServiceImpl(fleet);
+
+        var atm1 = atmOf(Denomination.DENOMINATION_1000, 3, null);
+        var atm2 = atmOf(Denomination.DENOMINATION_1000, 3, null);
+        var atm3 = atmOf(Denomination.DENOMINATION_1000, 1, null);
+
+        service.register(atm1, "north");
+        service.register(atm2, "north");
+        service.register(atm3, "south");
+
+        // when
+        var disabled = service.disableRegion("north");
+
+        // then
+        assertThat(disabled).isEqualTo(2);
+        assertThatThrownBy(atm1::getBalance).isInstanceOf(ATMDisabledException.class);
+        assertThatThrownBy(() -> service.withdraw(2000)).isInstanceOf(ATMInsufficientBalanceException.class);
+        assertThat(service.withdraw(1000).size()).isEqualTo(1);
+
+        assertThat(service.enableRegion("north")).isEqualTo(2);
+        assertThat(service.withdraw(2000).size()).isEqualTo(2);
+    }
+
+    @Test
+    public void backupAll() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+        var service = new ATMFleetServiceImpl(fleet);
+
+        var history1 = ATMHistory.builder().build();
+        var history2 = ATMHistory.builder().build();
+        var history3 = ATMHistory.builder().build();
+
+        service.register(atmOf(Denomination.DENOMINATION_1000, 1, history1), "north");
+        service.register(atmOf(Denomination.DENOMINATION_1000, 1, history2), "north");
+
+        var disabledATM = atmOf(Denomination.DENOMINATION_1000, 1, history3);
+        disabledATM.disable();
+        service.register(disabledATM, "south");
+
+        // when
+        var backedUp = service.backupAll();
+
+        // then
+        assertThat(backedUp).isEqualTo(2);
+        assertThat(history1.size()).isEqualTo(1);
+        assertThat(history2.size()).isEqualTo(1);
+        assertThat(history3.size()).isZero();
+    }
+
+    @Test
+    public void collectBalance() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+        var service = new ATMFleetServiceImpl(fleet);
+
+        var atm1 = atmOf(Denomination.DENOMINATION_1000, 3, null);
+        var atm2 = atmOf(Denomination.DENOMINATION_1000, 3, null);
+        atm2.disable();
+
+        service.register(atm1, "north");
+        service.register(atm2, "north");
+
+        // a withdrawal past the fleet is not accounted until the balance is collected
+        atm1.give(1000);
+        assertThat(service.checkBalance()).isEqualTo(6000L);
+
+        // when
+        var balance = service.collectBalance();
+
+        // then
+        assertThat(balance).isEqualTo(5000L);
+        assertThat(service.checkBalance()).isEqualTo(5000L);
+    }
+
+    private static ATM atmOf(Denomination denomination, int count, ATMHistory history) {
+        var banknotesBox = CountingBanknotesBox.builder()
+            .denomination(denomination)
+            .count(count)
+            .build();
+
+        Set<BanknotesBox> banknoteBoxes = new HashSet<>(Set.of(banknotesBox));
+
+        return ConcurrentATM.builder()
+            .box(Box.builder().banknoteBoxes(banknoteBoxes).build())
+            .enabled(true)
+            .history(history)
+            .build();
+    }
+}
@@ -2,11 +2,15 @@ package com.luxoft.atm.domain;
 
 import com.luxoft.atm.domain.model.Denomination;
 import com.luxoft.atm.domain.model.atm.ATMDisabledException;
+import com.luxoft.atm.domain.model.atm.ATMIncorrectSumException;
+import com.luxoft.atm.domain.model.atm.ATMInsufficientBalanceException;
 import com.luxoft.atm.domain.model.atm.DefaultATM;
 import com.luxoft.atm.domain.model.banknote.Banknote;
 import com.luxoft.atm.domain.model.banknote.BanknotesBox;
 import com.luxoft.atm.domain.model.banknote.Box;
 import com.luxoft.atm.domain.model.banknote.DefaultBanknotesBox;
+import com.luxoft.atm.metrics.ATMMetrics;
+import com.luxoft.atm.metrics.LoggingATMMetricsExporter;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
@@ -133,4 +137,41 @@ public class ATMServiceImplTest {
         // when / then
         assertThatThrownBy(() -> service.checkBalance(atm)).isInstanceOf(ATMDisabledException.class);
     }
+
+    @Test
+    void withdrawRecordsMetrics() throws Exception {
+        // given
+        var metrics = new ATMMetrics();
+        metrics.attach(new LoggingATMMetricsExporter());
+
+        var service = new ATMServiceImpl(metrics);
+
+        var banknotesBox100 = DefaultBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .build();
+
+        banknotesBox100.take(Banknote.builder().denomination(Denomination.DENOMINATION_100).build());
+
+        Set<BanknotesBox> banknotesBoxes = new HashSet<>(Set.of(banknotesBox100));
+
+        var atm = DefaultATM.builder()
+            .box(Box.builder().banknoteBoxes(banknotesBoxes).build())
+            .enabled(true)
+            .build();
+
+        // when
+        assertThatThrownBy(() -> service.withdraw(50, atm)).isInstanceOf(ATMIncorrectSumException.class);
+        assertThatThrownBy(() -> service.withdraw(200, atm)).isInstanceOf(ATMInsufficientBalanceException.class);
+        service.withdraw(100, atm);
+        service.disable(atm);
+        assertThatThrownBy(() -> service.withdraw(100, atm)).isInstanceOf(ATMDisabledException.class);
+
+        // then
+        assertThat(metrics.getCount(ATMMetrics.Operation.WITHDRAW, ATMMetrics.Outcome.SUCCESS)).isEqualTo(1L);
+        assertThat(metrics.getCount(ATMMetrics.Operation.WITHDRAW, ATMMetrics.Outcome.INCORRECT_SUM)).isEqualTo(1L);
+        assertThat(metrics.getCount(ATMMetrics.Operation.WITHDRAW, ATMMetrics.Outcome.INSUFFICIENT_BALANCE)).isEqualTo(1L);
+        assertThat(metrics.getCount(ATMMetrics.Operation.WITHDRAW, ATMMetrics.Outcome.DISABLED)).isEqualTo(1L);
+        assertThat(metrics.getCount(ATMMetrics.Operation.DISABLE, ATMMetrics.Outcome.SUCCESS)).isEqualTo(1L);
+        assertThat(metrics.getLatency(ATMMetrics.Operation.WITHDRAW).getCount()).isEqualTo(4L);
+    }
 }
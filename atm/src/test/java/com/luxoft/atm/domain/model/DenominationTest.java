@@ -0,0 +1,47 @@
+package com.luxoft.atm.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DenominationTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class DenominationTest {
+    @Test
+    public void toInt() throws Exception {
+        // when / then
+        assertThat(Denomination.DENOMINATION_50.toInt()).isEqualTo(50);
+        assertThat(Denomination.DENOMINATION_5000.toInt()).isEqualTo(5000);
+        assertThat(Denomination.DENOMINATION_100.lessThan(Denomination.DENOMINATION_500)).isTrue();
+        assertThat(Denomination.DENOMINATION_500.lessThan(Denomination.DENOMINATION_500)).isFalse();
+    }
+
+    @Test
+    public void descending() throws Exception {
+        // when
+        var denominations = Denomination.descending();
+
+        // then
+        assertThat(denominations).containsExactly(
+            Denomination.DENOMINATION_5000,
+            Denomination.DENOMINATION_2000,
+            Denomination.DENOMINATION_1000,
+            Denomination.DENOMINATION_500,
+            Denomination.DENOMINATION_100,
+            Denomination.DENOMINATION_50
+        );
+
+        assertThat(Denomination.descending()).isSameAs(denominations);
+    }
+
+    @Test
+    public void count() throws Exception {
+        // when / then
+        assertThat(Denomination.COUNT).isEqualTo(Denomination.values().length);
+    }
+}
@@ -0,0 +1,336 @@
+package com.luxoft.atm.domain.model.atm;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.atm.history.ATMHistory;
+import com.luxoft.atm.domain.model.banknote.Banknote;
+import com.luxoft.atm.domain.model.banknote.BanknotesBox;
+import com.luxoft.atm.domain.model.banknote.Box;
+import com.luxoft.atm.domain.model.banknote.CountingBanknotesBox;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ConcurrentATMTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ConcurrentATMTest {
+    private static final int THREADS_COUNT = 8;
+    private static final int OPERATIONS_PER_THREAD = 20_000;
+
+    @Test
+    public void take() throws Exception {
+        // given
+        var banknotesBox100 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .build();
+
+        var atm = ConcurrentATM.builder()
+            .box(boxOf(banknotesBox100))
+            .enabled(true)
+            .build();
+
+        var banknote100 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .build();
+
+        // when
+        atm.take(banknote100);
+
+        // then
+        assertThat(banknotesBox100.size()).isEqualTo(1);
+        assertThat(atm.getBalance()).isEqualTo(100);
+    }
+
+    @Test
+    public void takeWhenBanknotesBoxNotFoundForBanknotes() throws Exception {
+        // given
+        var atm = ConcurrentATM.builder()
+            .enabled(true)
+            .build();
+
+        var banknote100 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .build();
+
+        // when / then
+        assertThatThrownBy(() -> atm.take(banknote100)).isInstanceOf(ATMBanknotesBoxNotFoundException.class);
+    }
+
+    @Test
+    public void takeAll() throws Exception {
+        // given
+        var banknotesBox100 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .build();
+
+        var banknotesBox1000 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .build();
+
+        var atm = ConcurrentATM.builder()
+            .box(boxOf(banknotesBox100, banknotesBox1000))
+            .enabled(true)
+            .build();
+
+        var banknote50 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_50)
+            .build();
+
+        List<Banknote> banknotes = new ArrayList<>(List.of(banknote50));
+        for (var i = 0; i < 3; i++) {
+            banknotes.add(Banknote.builder().denomination(Denomination.DENOMINATION_100).build());
+            banknotes.add(Banknote.builder().denomination(Denomination.DENOMINATION_1000).build());
+        }
+
+        // when
+        var rejectedBanknotes = atm.takeAll(banknotes);
+
+        // then
+        assertThat(rejectedBanknotes).containsExactly(banknote50);
+        assertThat(banknotesBox100.size()).isEqualTo(3);
+        assertThat(banknotesBox1000.size()).isEqualTo(3);
+        assertThat(atm.getBalance()).isEqualTo(3300);
+    }
+
+    @Test
+    public void give() throws Exception {
+        // given
+        var banknotesBox2000 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_2000)
+            .count(3)
+            .build();
+
+        var banknotesBox5000 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_5000)
+            .count(1)
+            .build();
+
+        var atm = ConcurrentATM.builder()
+            .box(boxOf(banknotesBox2000, banknotesBox5000))
+            .enabled(true)
+            .build();
+
+        // when
+        var banknotes = atm.give(6000);
+
+        // then
+        assertThat(banknotes.size()).isEqualTo(3);
+        assertThat(banknotesBox2000.empty()).isTrue();
+        assertThat(banknotesBox5000.size()).isEqualTo(1);
+        assertThat(atm.getBalance()).isEqualTo(5000);
+    }
+
+    @Test
+    public void giveWhenSumCannotBeDenominated() throws Exception {
+        // given
+        var banknotesBox500 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_500)
+            .count(3)
+            .build();
+
+        var atm = ConcurrentATM.builder()
+            .box(boxOf(banknotesBox500))
+            .enabled(true)
+            .build();
+
+        // when / then
+        assertThatThrownBy(() -> atm.give(700)).isInstanceOf(ATMIncorrectSumException.class);
+        assertThatThrownBy(() -> atm.give(2000)).isInstanceOf(ATMInsufficientBalanceException.class);
+        assertThat(banknotesBox500.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void giveWhenATMIsDisabled() throws Exception {
+        // given
+        var atm = ConcurrentATM.builder()
+            .enabled(false)
+            .build();
+
+        // when / then
+        assertThatThrownBy(() -> atm.give(100)).isInstanceOf(ATMDisabledException.class);
+    }
+
+    @Test
+    public void restore() throws Exception {
+        // given
+        var banknotesBox100 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .count(5)
+            .build();
+
+        var history = ATMHistory.builder()
+            .build();
+
+        var atm = ConcurrentATM.builder()
+            .box(boxOf(banknotesBox100))
+            .enabled(true)
+            .history(history)
+            .build();
+
+        atm.backup();
+        atm.give(300);
+
+        // when
+        atm.restore();
+
+        // then
+        assertThat(history.size()).isZero();
+        assertThat(atm.getBalance()).isEqualTo(500);
+        assertThat(banknotesBox100.size()).isEqualTo(2);
+
+        atm.give(500);
+        assertThat(atm.getBalance()).isZero();
+    }
+
+    @Test
+    public void takeConcurrently() throws Exception {
+        // given
+        var banknotesBox50 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_50)
+            .build();
+
+        var banknotesBox100 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .build();
+
+        var atm = ConcurrentATM.builder()
+            .box(boxOf(banknotesBox50, banknotesBox100))
+            .enabled(true)
+            .build();
+
+        // when
+        runConcurrently(thread -> {
+            var denomination = thread % 2 == 0 ? Denomination.DENOMINATION_50 : Denomination.DENOMINATION_100;
+            for (var i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                atm.take(Banknote.builder().denomination(denomination).build());
+            }
+        });
+
+        // then
+        var perDenomination = THREADS_COUNT / 2 * OPERATIONS_PER_THREAD;
+
+        assertThat(banknotesBox50.size()).isEqualTo(perDenomination);
+        assertThat(banknotesBox100.size()).isEqualTo(perDenomination);
+        assertThat(atm.getBalance()).isEqualTo(perDenomination * 150);
+    }
+
+    @Test
+    public void takeAndGiveConcurrently() throws Exception {
+        // given
+        var banknotesBox100 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .count(1_000)
+            .build();
+
+        var banknotesBox500 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_500)
+            .count(1_000)
+            .build();
+
+        var banknotesBox1000 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .count(1_000)
+            .build();
+
+        var initialBalance = 1_600_000;
+
+        var atm = ConcurrentATM.builder()
+            .box(boxOf(banknotesBox100, banknotesBox500, banknotesBox1000))
+            .enabled(true)
+            .build();
+
+        var denominations = new Denomination[] {
+            Denomination.DENOMINATION_100,
+            Denomination.DENOMINATION_500,
+            Denomination.DENOMINATION_1000
+        };
+
+        var deposited = new AtomicLong();
+        var withdrawn = new AtomicLong();
+
+        // when
+        runConcurrently(thread -> {
+            var random = ThreadLocalRandom.current();
+            for (var i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                if (random.nextBoolean()) {
+                    var denomination = denominations[random.nextInt(denominations.length)];
+
+                    atm.take(Banknote.builder().denomination(denomination).build());
+                    deposited.addAndGet(denomination.toInt());
+
+                    continue;
+                }
+
+                var sum = 100 * (1 + random.nextInt(30));
+                try {
+                    var banknotes = atm.give(sum);
+
+                    var givenSum = 0;
+                    for (var banknote : banknotes) {
+                        givenSum += banknote.getDenomination().toInt();
+                    }
+
+                    assertThat(givenSum).isEqualTo(sum);
+                    withdrawn.addAndGet(sum);
+                } catch (ATMIncorrectSumException | ATMInsufficientBalanceException e) {
+                    // the sum cannot be given at the moment
+                }
+            }
+        });
+
+        // then
+        var expectedBalance = initialBalance + deposited.get() - withdrawn.get();
+        var boxesWorth = banknotesBox100.getWorth() + banknotesBox500.getWorth() + banknotesBox1000.getWorth();
+
+        assertThat(withdrawn.get()).isPositive();
+        assertThat((long) atm.getBalance()).isEqualTo(expectedBalance);
+        assertThat((long) boxesWorth).isEqualTo(expectedBalance);
+    }
+
+    private static Box boxOf(BanknotesBox... banknoteBoxes) {
+        Set<BanknotesBox> banknoteBoxesSet = new HashSet<>(List.of(banknoteBoxes));
+        return Box.builder().banknoteBoxes(banknoteBoxesSet).build();
+    }
+
+    private static void runConcurrently(ThreadTask task) throws Exception {
+        var executor = Executors.newFixedThreadPool(THREADS_COUNT);
+        var start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (var thread = 0; thread < THREADS_COUNT; thread++) {
+                var threadIndex = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(threadIndex);
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (var future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
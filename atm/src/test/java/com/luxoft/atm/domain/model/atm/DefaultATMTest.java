@@ -3,15 +3,18 @@ package com.luxoft.atm.domain.model.atm;
 import com.luxoft.atm.domain.model.Denomination;
 import com.luxoft.atm.domain.model.atm.history.ATMHistory;
 import com.luxoft.atm.domain.model.atm.history.ATMHistoryEmptyException;
+import com.luxoft.atm.domain.model.atm.withdrawal.GreedyWithdrawalStrategy;
 import com.luxoft.atm.domain.model.banknote.Banknote;
 import com.luxoft.atm.domain.model.banknote.BanknotesBox;
 import com.luxoft.atm.domain.model.banknote.Box;
+import com.luxoft.atm.domain.model.banknote.CountingBanknotesBox;
 import com.luxoft.atm.domain.model.banknote.DefaultBanknotesBox;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -96,6 +99,37 @@ public class DefaultATMTest {
         assertThatThrownBy(() -> atm.take(banknote100)).isInstanceOf(ATMBanknotesBoxNotFoundException.class);
     }
 
+    @Test
+    public void getBanknotesCount() throws Exception {
+        // given
+        var banknotesBox100 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .count(3)
+            .build();
+
+        var anotherBanknotesBox100 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .count(2)
+            .build();
+
+        var banknotesBox1000 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .count(1)
+            .build();
+
+        Set<BanknotesBox> banknotesBoxes = new HashSet<>(Set.of(banknotesBox100, anotherBanknotesBox100, banknotesBox1000));
+
+        var atm = DefaultATM.builder()
+            .box(Box.builder().banknoteBoxes(banknotesBoxes).build())
+            .enabled(false)
+            .build();
+
+        // when / then
+        assertThat(atm.getBanknotesCount(Denomination.DENOMINATION_100)).isEqualTo(5);
+        assertThat(atm.getBanknotesCount(Denomination.DENOMINATION_1000)).isEqualTo(1);
+        assertThat(atm.getBanknotesCount(Denomination.DENOMINATION_5000)).isEqualTo(0);
+    }
+
     @Test
     void takeWhenATMIsDisabled() throws Exception {
         // given
@@ -120,6 +154,68 @@ public class DefaultATMTest {
         assertThatThrownBy(() -> atm.take(banknote100)).isInstanceOf(ATMDisabledException.class);
     }
 
+    @Test
+    public void takeAll() throws Exception {
+        // given
+        var banknotesBox100 = DefaultBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .build();
+
+        var banknotesBox1000 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .build();
+
+        var banknote100 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .build();
+
+        var banknote500 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_500)
+            .build();
+
+        var banknote1000 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .build();
+
+        var anotherBanknote1000 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .build();
+
+        Set<BanknotesBox> banknotesBoxes = new HashSet<>() {{
+            add(banknotesBox100);
+            add(banknotesBox1000);
+        }};
+
+        var atm = DefaultATM.builder()
+            .box(Box.builder().banknoteBoxes(banknotesBoxes).build())
+            .enabled(true)
+            .build();
+
+        // when
+        var rejectedBanknotes = atm.takeAll(List.of(banknote100, banknote500, banknote1000, anotherBanknote1000));
+
+        // then
+        assertThat(rejectedBanknotes).containsExactly(banknote500);
+        assertThat(atm.getBalance()).isEqualTo(2100);
+        assertThat(banknotesBox100.give()).isSameAs(banknote100);
+        assertThat(banknotesBox1000.size()).isEqualTo(2);
+    }
+
+    @Test
+    void takeAllWhenATMIsDisabled() throws Exception {
+        // given
+        var banknote100 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .build();
+
+        var atm = DefaultATM.builder()
+            .enabled(false)
+            .build();
+
+        // when / then
+        assertThatThrownBy(() -> atm.takeAll(List.of(banknote100))).isInstanceOf(ATMDisabledException.class);
+    }
+
     @Test
     public void give() throws Exception {
         // given
@@ -312,6 +408,68 @@ public class DefaultATMTest {
         assertThat(banknotes.get(1).getDenomination()).isEqualTo(Denomination.DENOMINATION_100);
     }
 
+    @Test
+    public void giveWhenGreedyPlanIsNotPossible() throws Exception {
+        // given
+        var banknotesBox2000 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_2000)
+            .count(3)
+            .build();
+
+        var banknotesBox5000 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_5000)
+            .count(1)
+            .build();
+
+        Set<BanknotesBox> banknoteBoxes = new HashSet<>() {{
+            add(banknotesBox2000);
+            add(banknotesBox5000);
+        }};
+
+        var atm = DefaultATM.builder()
+            .box(Box.builder().banknoteBoxes(banknoteBoxes).build())
+            .enabled(true)
+            .build();
+
+        // when
+        var banknotes = atm.give(6000);
+
+        // then
+        assertThat(banknotes.size()).isEqualTo(3);
+        assertThat(banknotes).allMatch(banknote -> banknote.getDenomination() == Denomination.DENOMINATION_2000);
+        assertThat(banknotesBox5000.size()).isEqualTo(1);
+        assertThat(atm.getBalance()).isEqualTo(5000);
+    }
+
+    @Test
+    public void giveWhenGreedyStrategyIsUsed() throws Exception {
+        // given
+        var banknotesBox2000 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_2000)
+            .count(3)
+            .build();
+
+        var banknotesBox5000 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_5000)
+            .count(1)
+            .build();
+
+        Set<BanknotesBox> banknoteBoxes = new HashSet<>() {{
+            add(banknotesBox2000);
+            add(banknotesBox5000);
+        }};
+
+        var atm = DefaultATM.builder()
+            .box(Box.builder().banknoteBoxes(banknoteBoxes).build())
+            .enabled(true)
+            .withdrawalStrategy(new GreedyWithdrawalStrategy())
+            .build();
+
+        // when / then
+        assertThatThrownBy(() -> atm.give(6000)).isInstanceOf(ATMIncorrectSumException.class);
+        assertThat(atm.getBalance()).isEqualTo(11000);
+    }
+
     @Test
     public void giveWhenBalanceIsNotEnough() throws Exception {
         // given
@@ -378,6 +536,40 @@ public class DefaultATMTest {
         assertThat(balance).isEqualTo(1100);
     }
 
+    @Test
+    public void getBalanceAfterGiveAndRestore() throws Exception {
+        // given
+        var banknotesBox1000 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .count(3)
+            .build();
+
+        var banknotesBox5000 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_5000)
+            .count(2)
+            .build();
+
+        // the box is cloned by a backup, so the set must not be an anonymous class
+        Set<BanknotesBox> banknotesBoxes = new HashSet<>();
+        banknotesBoxes.add(banknotesBox1000);
+        banknotesBoxes.add(banknotesBox5000);
+
+        var atm = DefaultATM.builder()
+            .box(Box.builder().banknoteBoxes(banknotesBoxes).build())
+            .enabled(true)
+            .build();
+
+        // when / then
+        assertThat(atm.getBalance()).isEqualTo(13000);
+
+        atm.backup();
+        atm.give(6000);
+        assertThat(atm.getBalance()).isEqualTo(7000);
+
+        atm.restore();
+        assertThat(atm.getBalance()).isEqualTo(13000);
+    }
+
     @Test
     public void getBalanceWhenBalanceIsZero() throws Exception {
         // given
@@ -447,6 +639,45 @@ public class DefaultATMTest {
         assertThat(banknoteBox.empty()).isTrue();
     }
 
+    @Test
+    void backupWhenOnlyOneBanknotesBoxIsChanged() throws Exception {
+        // given
+        var banknotesBox100 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .count(10)
+            .build();
+
+        var banknotesBox500 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_500)
+            .count(10)
+            .build();
+
+        Set<BanknotesBox> banknoteBoxes = new HashSet<>();
+        banknoteBoxes.add(banknotesBox100);
+        banknoteBoxes.add(banknotesBox500);
+
+        var history = ATMHistory.builder()
+            .build();
+
+        var atm = DefaultATM.builder()
+            .box(Box.builder().banknoteBoxes(banknoteBoxes).build())
+            .enabled(true)
+            .history(history)
+            .build();
+
+        // when
+        atm.backup();
+        atm.give(500);
+
+        // then
+        var historyBox = history.pop().getBox();
+
+        assertThat(historyBox.holds(banknotesBox100)).isTrue();
+        assertThat(historyBox.holds(banknotesBox500)).isFalse();
+        assertThat(historyBox.getBanknoteBoxes().stream().mapToInt(BanknotesBox::getWorth).sum()).isEqualTo(6000);
+        assertThat(banknotesBox500.size()).isEqualTo(9);
+    }
+
     @Test
     void backupWhenATMIsDisabled() throws Exception {
         // given
@@ -488,6 +719,8 @@ public class DefaultATMTest {
         atm.take(banknote100);
         atm.backup();
 
+        atm.take(Banknote.builder().denomination(Denomination.DENOMINATION_100).build());
+
         // when / then
         atm.restore();
         assertThat(history.size()).isZero();
@@ -502,9 +735,13 @@ public class DefaultATMTest {
         assertThat(restoredBanknotesBox).isNotSameAs(banknotesBox100);
         assertThat(restoredBanknotesBox.size()).isEqualTo(1);
 
+        assertThat(banknotesBox100.size()).isEqualTo(2);
+        assertThat(atm.getBalance()).isEqualTo(100);
+
+        // banknotes are immutable, so a snapshot shares them
         var banknote = restoredBanknotesBox.give();
 
-        assertThat(banknote).isNotSameAs(banknote100);
+        assertThat(banknote).isSameAs(banknote100);
         assertThat(banknote.getUuid()).isEqualTo(banknote100.getUuid());
     }
 
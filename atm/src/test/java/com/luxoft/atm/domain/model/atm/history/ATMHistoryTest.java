@@ -0,0 +1,114 @@
+package com.luxoft.atm.domain.model.atm.history;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.banknote.BanknotesBox;
+import com.luxoft.atm.domain.model.banknote.Box;
+import com.luxoft.atm.domain.model.banknote.CountingBanknotesBox;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ATMHistoryTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ATMHistoryTest {
+    @Test
+    public void pushWhenMaxSizeIsReached() throws Exception {
+        // given
+        var history = ATMHistory.builder()
+            .maxSize(2)
+            .build();
+
+        var snapshot1 = ATMSnapshot.builder().box(Box.builder().build()).build();
+        var snapshot2 = ATMSnapshot.builder().box(Box.builder().build()).build();
+        var snapshot3 = ATMSnapshot.builder().box(Box.builder().build()).build();
+
+        // when
+        history.push(snapshot1);
+        history.push(snapshot2);
+        history.push(snapshot3);
+
+        // then
+        assertThat(history.size()).isEqualTo(2);
+        assertThat(history.pop()).isSameAs(snapshot3);
+        assertThat(history.pop()).isSameAs(snapshot2);
+        assertThatThrownBy(history::pop).isInstanceOf(ATMHistoryEmptyException.class);
+    }
+
+    @Test
+    public void detach() throws Exception {
+        // given
+        var banknotesBox500 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_500)
+            .count(3)
+            .build();
+
+        var banknotesBox1000 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .count(2)
+            .build();
+
+        Set<BanknotesBox> banknoteBoxes = new HashSet<>();
+        banknoteBoxes.add(banknotesBox500);
+        banknoteBoxes.add(banknotesBox1000);
+
+        var box = Box.builder()
+            .banknoteBoxes(banknoteBoxes)
+            .build();
+
+        var history = ATMHistory.builder()
+            .build();
+
+        var oldestSnapshot = ATMSnapshot.builder().box(box.shallowCopy()).build();
+        history.push(oldestSnapshot);
+
+        // the oldest snapshot gets its own copy, so it does not share the box anymore
+        history.detach(banknotesBox500);
+        var oldestBanknotesBox500 = findBanknotesBox(oldestSnapshot.getBox(), Denomination.DENOMINATION_500);
+
+        var snapshot1 = ATMSnapshot.builder().box(box.shallowCopy()).build();
+        var snapshot2 = ATMSnapshot.builder().box(box.shallowCopy()).build();
+        history.push(snapshot1);
+        history.push(snapshot2);
+
+        // when
+        history.detach(banknotesBox500);
+
+        // then
+        var copy1 = findBanknotesBox(snapshot1.getBox(), Denomination.DENOMINATION_500);
+        var copy2 = findBanknotesBox(snapshot2.getBox(), Denomination.DENOMINATION_500);
+
+        assertThat(copy1).isNotSameAs(banknotesBox500);
+        assertThat(copy1).isSameAs(copy2);
+        assertThat(copy1.size()).isEqualTo(3);
+
+        assertThat(snapshot1.getBox().holds(banknotesBox1000)).isTrue();
+        assertThat(snapshot2.getBox().holds(banknotesBox1000)).isTrue();
+
+        assertThat(findBanknotesBox(oldestSnapshot.getBox(), Denomination.DENOMINATION_500)).isSameAs(oldestBanknotesBox500);
+    }
+
+    @Test
+    public void buildWhenMaxSizeIsNegative() throws Exception {
+        // when / then
+        assertThatThrownBy(() -> ATMHistory.builder().maxSize(-1).build()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BanknotesBox findBanknotesBox(Box box, Denomination denomination) {
+        for (var banknotesBox : box.getBanknoteBoxes()) {
+            if (banknotesBox.getDenomination() == denomination) {
+                return banknotesBox;
+            }
+        }
+
+        throw new IllegalStateException("Banknotes box not found");
+    }
+}
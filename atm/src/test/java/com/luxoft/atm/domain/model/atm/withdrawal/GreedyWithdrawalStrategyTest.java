@@ -0,0 +1,38 @@
+package com.luxoft.atm.domain.model.atm.withdrawal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GreedyWithdrawalStrategyTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class GreedyWithdrawalStrategyTest {
+    @Test
+    public void plan() throws Exception {
+        // given
+        var strategy = new GreedyWithdrawalStrategy();
+
+        // when
+        var plan = strategy.plan(4500, new int[] {5000, 2000, 500}, new int[] {1, 3, 4});
+
+        // then
+        assertThat(plan).containsExactly(0, 2, 1);
+    }
+
+    @Test
+    public void planWhenGreedyPlanIsNotPossible() throws Exception {
+        // given
+        var strategy = new GreedyWithdrawalStrategy();
+
+        // when
+        var plan = strategy.plan(6000, new int[] {5000, 2000}, new int[] {1, 3});
+
+        // then
+        assertThat(plan).isNull();
+    }
+}
@@ -0,0 +1,92 @@
+package com.luxoft.atm.domain.model.atm.withdrawal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MinimalNotesWithdrawalStrategyTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class MinimalNotesWithdrawalStrategyTest {
+    @Test
+    public void plan() throws Exception {
+        // given
+        var strategy = new MinimalNotesWithdrawalStrategy();
+
+        // when
+        var plan = strategy.plan(7500, new int[] {5000, 2000, 500}, new int[] {1, 3, 4});
+
+        // then
+        assertThat(plan).containsExactly(1, 1, 1);
+    }
+
+    @Test
+    public void planWhenGreedyPlanIsNotPossible() throws Exception {
+        // given
+        var strategy = new MinimalNotesWithdrawalStrategy();
+
+        // when
+        var plan = strategy.plan(6000, new int[] {5000, 2000}, new int[] {1, 3});
+
+        // then
+        assertThat(plan).containsExactly(0, 3);
+    }
+
+    @Test
+    public void planWhenGreedyPlanIsNotMinimal() throws Exception {
+        // given
+        var strategy = new MinimalNotesWithdrawalStrategy();
+
+        // when
+        var plan = strategy.plan(6000, new int[] {5000, 2000, 100}, new int[] {1, 3, 10});
+
+        // then
+        assertThat(plan).containsExactly(0, 3, 0);
+    }
+
+    @Test
+    public void planWhenSumCannotBeGiven() throws Exception {
+        // given
+        var strategy = new MinimalNotesWithdrawalStrategy();
+
+        // when / then
+        assertThat(strategy.plan(3000, new int[] {5000, 2000}, new int[] {1, 1})).isNull();
+        assertThat(strategy.plan(150, new int[] {100}, new int[] {5})).isNull();
+        assertThat(strategy.plan(100, new int[] {}, new int[] {})).isNull();
+    }
+
+    @Test
+    public void planWhenBoxesHaveTheSameDenomination() throws Exception {
+        // given
+        var strategy = new MinimalNotesWithdrawalStrategy();
+
+        // when
+        var plan = strategy.plan(300, new int[] {100, 100, 50}, new int[] {2, 1, 2});
+
+        // then
+        assertThat(plan).containsExactly(2, 1, 0);
+    }
+
+    @Test
+    public void planWhenNodesLimitIsReachedBeforeAnyPlan() throws Exception {
+        // given
+        var strategy = new MinimalNotesWithdrawalStrategy(1);
+
+        // when
+        var plan = strategy.plan(1500, new int[] {1000, 500}, new int[] {1, 1});
+
+        // then
+        assertThat(plan).containsExactly(1, 1);
+    }
+
+    @Test
+    public void createWhenNodesLimitIsNotPositive() throws Exception {
+        // when / then
+        assertThatThrownBy(() -> new MinimalNotesWithdrawalStrategy(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
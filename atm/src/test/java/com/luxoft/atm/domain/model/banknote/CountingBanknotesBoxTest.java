@@ -0,0 +1,184 @@
+package com.luxoft.atm.domain.model.banknote;
+
+import com.luxoft.atm.domain.model.Denomination;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CountingBanknotesBoxTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class CountingBanknotesBoxTest {
+    @Test
+    public void take() throws Exception {
+        // given
+        var box = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .build();
+
+        var banknote1 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .build();
+
+        var banknote2 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .build();
+
+        // when
+        box.take(banknote1);
+        box.take(banknote2);
+
+        // then
+        assertThat(box.size()).isEqualTo(2);
+        assertThat(box.getWorth()).isEqualTo(2000);
+    }
+
+    @Test
+    public void takeWhenDenominationsAreNotTheSame() throws Exception {
+        // given
+        var box = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .build();
+
+        var banknote = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_50)
+            .build();
+
+        // when / then
+        assertThatThrownBy(() -> box.take(banknote)).isInstanceOf(BanknoteBoxDenominationException.class);
+        assertThat(box.size()).isZero();
+    }
+
+    @Test
+    public void takeAll() throws Exception {
+        // given
+        var box = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .count(1)
+            .build();
+
+        var banknotes = List.of(
+            Banknote.builder().denomination(Denomination.DENOMINATION_1000).build(),
+            Banknote.builder().denomination(Denomination.DENOMINATION_1000).build()
+        );
+
+        // when
+        box.takeAll(banknotes);
+
+        // then
+        assertThat(box.size()).isEqualTo(3);
+        assertThat(box.getWorth()).isEqualTo(3000);
+    }
+
+    @Test
+    public void takeAllWhenDenominationsAreNotTheSame() throws Exception {
+        // given
+        var box = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .build();
+
+        var banknotes = List.of(
+            Banknote.builder().denomination(Denomination.DENOMINATION_1000).build(),
+            Banknote.builder().denomination(Denomination.DENOMINATION_50).build()
+        );
+
+        // when / then
+        assertThatThrownBy(() -> box.takeAll(banknotes)).isInstanceOf(BanknoteBoxDenominationException.class);
+        assertThat(box.size()).isZero();
+    }
+
+    @Test
+    public void give() throws Exception {
+        // given
+        var box = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .count(2)
+            .build();
+
+        // when
+        var givenBanknote1 = box.give();
+        var givenBanknote2 = box.give();
+
+        // then
+        assertThat(box.empty()).isTrue();
+        assertThat(givenBanknote1.getDenomination()).isEqualTo(Denomination.DENOMINATION_1000);
+        assertThat(givenBanknote2.getDenomination()).isEqualTo(Denomination.DENOMINATION_1000);
+        assertThat(givenBanknote1).isNotEqualTo(givenBanknote2);
+    }
+
+    @Test
+    public void giveSeveral() throws Exception {
+        // given
+        var box = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .count(5)
+            .build();
+
+        List<Banknote> banknotes = new ArrayList<>();
+
+        // when
+        box.give(3, banknotes);
+
+        // then
+        assertThat(box.size()).isEqualTo(2);
+        assertThat(banknotes.size()).isEqualTo(3);
+        assertThat(banknotes).allMatch(banknote -> banknote.getDenomination() == Denomination.DENOMINATION_100);
+    }
+
+    @Test
+    public void giveSeveralWhenBoxHasFewerBanknotes() throws Exception {
+        // given
+        var box = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .count(2)
+            .build();
+
+        List<Banknote> banknotes = new ArrayList<>();
+
+        // when / then
+        assertThatThrownBy(() -> box.give(3, banknotes)).isInstanceOf(BanknoteBoxEmptyException.class);
+        assertThat(box.size()).isEqualTo(2);
+        assertThat(banknotes).isEmpty();
+    }
+
+    @Test
+    public void giveWhenBoxIsEmpty() throws Exception {
+        // given
+        var box = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .build();
+
+        // when / then
+        assertThatThrownBy(box::give).isInstanceOf(BanknoteBoxEmptyException.class);
+    }
+
+    @Test
+    public void getWorth() throws Exception {
+        // given
+        var box = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_5000)
+            .count(30_000)
+            .build();
+
+        // when
+        var worth = box.getWorth();
+
+        // then
+        assertThat(worth).isEqualTo(150_000_000);
+    }
+
+    @Test
+    public void buildWhenCountIsNegative() throws Exception {
+        // when / then
+        assertThatThrownBy(() -> CountingBanknotesBox.builder().denomination(Denomination.DENOMINATION_50).count(-1).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
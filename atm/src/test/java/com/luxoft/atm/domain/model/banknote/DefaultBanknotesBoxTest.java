@@ -95,6 +95,30 @@ public class DefaultBanknotesBoxTest {
         assertThatThrownBy(box::give).isInstanceOf(BanknoteBoxEmptyException.class);
     }
 
+    @Test
+    public void copy() throws Exception {
+        // given
+        var box = DefaultBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .build();
+
+        var banknote = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .build();
+
+        box.take(banknote);
+
+        // when
+        var copy = box.copy();
+        box.give();
+
+        // then
+        assertThat(copy).isNotSameAs(box);
+        assertThat(copy).isEqualTo(box);
+        assertThat(copy.size()).isEqualTo(1);
+        assertThat(copy.give()).isSameAs(banknote);
+    }
+
     @Test
     public void getWorth() throws Exception {
         // given
@@ -167,4 +191,27 @@ public class DefaultBanknotesBoxTest {
         // then
         assertThat(empty).isFalse();
     }
+
+    @Test
+    public void comparator() throws Exception {
+        // given
+        var box100 = DefaultBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .build();
+
+        var box1000 = DefaultBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .build();
+
+        var anotherBox1000 = DefaultBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .build();
+
+        var comparator = BanknotesBox.comparator();
+
+        // when / then
+        assertThat(comparator.compare(box1000, box100) < 0).isTrue();
+        assertThat(comparator.compare(box100, box1000) > 0).isTrue();
+        assertThat(comparator.compare(box1000, anotherBox1000)).isZero();
+    }
 }
@@ -0,0 +1,107 @@
+package com.luxoft.atm.domain.model.banknote;
+
+import com.luxoft.atm.domain.model.Denomination;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SerialTrackingBanknotesBoxTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class SerialTrackingBanknotesBoxTest {
+    @Test
+    public void give() throws Exception {
+        // given
+        var countingBox = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_500)
+            .count(1)
+            .build();
+
+        var box = SerialTrackingBanknotesBox.builder()
+            .banknotesBox(countingBox)
+            .build();
+
+        var banknote1 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_500)
+            .build();
+
+        var banknote2 = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_500)
+            .build();
+
+        box.take(banknote1);
+        box.take(banknote2);
+
+        // when
+        var givenBanknote1 = box.give();
+        var givenBanknote2 = box.give();
+        var givenBanknote3 = box.give();
+
+        // then
+        assertThat(givenBanknote1).isSameAs(banknote2);
+        assertThat(givenBanknote2).isSameAs(banknote1);
+        assertThat(givenBanknote3.getDenomination()).isEqualTo(Denomination.DENOMINATION_500);
+
+        assertThat(box.empty()).isTrue();
+        assertThat(countingBox.empty()).isTrue();
+    }
+
+    @Test
+    public void takeWhenDenominationsAreNotTheSame() throws Exception {
+        // given
+        var box = SerialTrackingBanknotesBox.builder()
+            .banknotesBox(CountingBanknotesBox.builder().denomination(Denomination.DENOMINATION_500).build())
+            .build();
+
+        var banknote = Banknote.builder()
+            .denomination(Denomination.DENOMINATION_50)
+            .build();
+
+        // when / then
+        assertThatThrownBy(() -> box.take(banknote)).isInstanceOf(BanknoteBoxDenominationException.class);
+        assertThat(box.getBanknotes()).isEmpty();
+    }
+
+    @Test
+    public void giveWhenBoxIsEmpty() throws Exception {
+        // given
+        var box = SerialTrackingBanknotesBox.builder()
+            .banknotesBox(CountingBanknotesBox.builder().denomination(Denomination.DENOMINATION_500).build())
+            .build();
+
+        // when / then
+        assertThatThrownBy(box::give).isInstanceOf(BanknoteBoxEmptyException.class);
+    }
+
+    @Test
+    public void equalsWhenBoxIsCopied() throws Exception {
+        // given
+        var box = SerialTrackingBanknotesBox.builder()
+            .banknotesBox(CountingBanknotesBox.builder().denomination(Denomination.DENOMINATION_500).build())
+            .build();
+
+        var anotherBox = SerialTrackingBanknotesBox.builder()
+            .banknotesBox(CountingBanknotesBox.builder().denomination(Denomination.DENOMINATION_500).build())
+            .build();
+
+        var banknoteBoxes = new HashSet<BanknotesBox>();
+        banknoteBoxes.add(box);
+
+        // when
+        var copy = box.copy();
+
+        // then
+        assertThat(copy).isEqualTo(box);
+        assertThat(copy.hashCode()).isEqualTo(box.hashCode());
+        assertThat(banknoteBoxes.contains(copy)).isTrue();
+
+        assertThat(anotherBox).isNotEqualTo(box);
+    }
+}
@@ -0,0 +1,186 @@
+package com.luxoft.atm.domain.model.fleet;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.atm.ATM;
+import com.luxoft.atm.domain.model.atm.ConcurrentATM;
+import com.luxoft.atm.domain.model.banknote.BanknotesBox;
+import com.luxoft.atm.domain.model.banknote.Box;
+import com.luxoft.atm.domain.model.banknote.CountingBanknotesBox;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ATMFleetTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ATMFleetTest {
+    @Test
+    public void register() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+
+        var atm1 = atmOf(3);
+        var atm2 = atmOf(5);
+
+        // when
+        fleet.register(atm1, "north");
+        fleet.register(atm2, "south");
+
+        // then
+        assertThat(fleet.size()).isEqualTo(2);
+        assertThat(fleet.getBalance()).isEqualTo(8000L);
+        assertThat(fleet.getUuids("north")).containsExactly(atm1.getUuid());
+        assertThat(fleet.findRichest(1000, 10)).containsExactly(atm2.getUuid(), atm1.getUuid());
+    }
+
+    @Test
+    public void registerWhenATMIsAlreadyRegistered() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+
+        var atm = atmOf(1);
+        fleet.register(atm, "north");
+
+        // when / then
+        assertThatThrownBy(() -> fleet.register(atm, "south")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(fleet.getBalance()).isEqualTo(1000L);
+    }
+
+    @Test
+    public void apply() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+
+        var atm1 = atmOf(3);
+        var atm2 = atmOf(5);
+
+        fleet.register(atm1, "north");
+        fleet.register(atm2, "north");
+
+        // when
+        fleet.apply(atm2.getUuid(), atm -> atm.give(4000));
+
+        // then
+        assertThat(fleet.getBalance()).isEqualTo(4000L);
+        assertThat(fleet.findRichest(1000, 10)).containsExactly(atm1.getUuid(), atm2.getUuid());
+        assertThat(fleet.findRichest(2000, 10)).containsExactly(atm1.getUuid());
+    }
+
+    @Test
+    public void applyWhenATMIsNotRegistered() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+
+        // when / then
+        assertThatThrownBy(() -> fleet.apply(UUID.randomUUID(), ATM::getBalance))
+            .isInstanceOf(ATMNotFoundException.class);
+    }
+
+    @Test
+    public void findRichestWhenATMIsDisabled() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+
+        var atm1 = atmOf(3);
+        var atm2 = atmOf(5);
+
+        fleet.register(atm1, "north");
+        fleet.register(atm2, "north");
+
+        // when
+        fleet.apply(atm2.getUuid(), atm -> {
+            atm.disable();
+            return null;
+        });
+
+        // then
+        assertThat(fleet.findRichest(1000, 10)).containsExactly(atm1.getUuid());
+        assertThat(fleet.getBalance()).isEqualTo(8000L);
+    }
+
+    @Test
+    public void registerWhenATMIsDisabled() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+
+        var atm = atmOf(3);
+        atm.disable();
+
+        // when
+        fleet.register(atm, "north");
+
+        // then
+        assertThat(fleet.getBalance()).isEqualTo(3000L);
+        assertThat(fleet.findRichest(1000, 10)).isEmpty();
+    }
+
+    @Test
+    public void getWhenATMIsChangedThroughView() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+
+        var atm1 = atmOf(3);
+        var atm2 = atmOf(5);
+
+        fleet.register(atm1, "north");
+        fleet.register(atm2, "north");
+
+        // when
+        var view = fleet.get(atm2.getUuid());
+        view.give(4000);
+        view.disable();
+        view.enable();
+
+        // then
+        assertThat(view.getUuid()).isEqualTo(atm2.getUuid());
+        assertThat(view.getBalance()).isEqualTo(1000);
+        assertThat(fleet.getBalance()).isEqualTo(4000L);
+        assertThat(fleet.findRichest(1000, 10)).containsExactly(atm1.getUuid(), atm2.getUuid());
+    }
+
+    @Test
+    public void unregister() throws Exception {
+        // given
+        var fleet = new ATMFleet();
+
+        var atm1 = atmOf(3);
+        var atm2 = atmOf(5);
+
+        fleet.register(atm1, "north");
+        fleet.register(atm2, "north");
+
+        // when
+        var unregistered = fleet.unregister(atm2.getUuid());
+
+        // then
+        assertThat(unregistered).isTrue();
+        assertThat(fleet.unregister(atm2.getUuid())).isFalse();
+        assertThat(fleet.size()).isEqualTo(1);
+        assertThat(fleet.getBalance()).isEqualTo(3000L);
+        assertThat(fleet.getUuids("north")).containsExactly(atm1.getUuid());
+        assertThat(fleet.findRichest(1000, 10)).containsExactly(atm1.getUuid());
+    }
+
+    private static ATM atmOf(int banknotes1000Count) {
+        var banknotesBox1000 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_1000)
+            .count(banknotes1000Count)
+            .build();
+
+        Set<BanknotesBox> banknoteBoxes = new HashSet<>(Set.of(banknotesBox1000));
+
+        return ConcurrentATM.builder()
+            .box(Box.builder().banknoteBoxes(banknoteBoxes).build())
+            .enabled(true)
+            .build();
+    }
+}
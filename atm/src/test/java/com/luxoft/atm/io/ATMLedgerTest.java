@@ -0,0 +1,194 @@
+package com.luxoft.atm.io;
+
+import com.luxoft.atm.domain.model.Denomination;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ATMLedgerTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ATMLedgerTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    public void open() throws Exception {
+        // given
+        var uuid = UUID.randomUUID();
+
+        try (var ledger = ATMLedger.open(directory)) {
+            ledger.initialize(uuid, Set.of(Denomination.DENOMINATION_100, Denomination.DENOMINATION_1000), true, 0);
+
+            ledger.append(ATMLedger.Operation.TAKE, Denomination.DENOMINATION_1000, 3);
+            ledger.append(ATMLedger.Operation.TAKE, new int[] {0, 5, 0, 1, 0, 0});
+            ledger.append(ATMLedger.Operation.GIVE, Denomination.DENOMINATION_100, 2);
+        }
+
+        // when
+        try (var ledger = ATMLedger.open(directory)) {
+            var atm = ledger.toATM();
+
+            // then
+            assertThat(ledger.isEmpty()).isFalse();
+            assertThat(ledger.getSequence()).isEqualTo(3L);
+            assertThat(atm.getUuid()).isEqualTo(uuid);
+            assertThat(atm.getBalance()).isEqualTo(4300);
+            assertThat(atm.getBox().size()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void appendWhenLedgerIsIdle() throws Exception {
+        // given
+        var uuid = UUID.randomUUID();
+
+        try (var ledger = ATMLedger.open(directory, 256, 1_000_000L, 1 << 20)) {
+            ledger.initialize(uuid, Set.of(Denomination.DENOMINATION_1000), true, 0);
+
+            // when
+            ledger.append(ATMLedger.Operation.TAKE, Denomination.DENOMINATION_1000, 2);
+
+            // then
+            var log = directory.resolve("atm.log");
+            for (var i = 0; i < 1_000 && Files.size(log) == 0; i++) {
+                Thread.sleep(1);
+            }
+
+            // the group is far from being full and no other record comes, still it is committed
+            try (var recoveredLedger = ATMLedger.open(directory, 256, Long.MAX_VALUE, 1 << 20)) {
+                assertThat(recoveredLedger.getSequence()).isEqualTo(1L);
+                assertThat(recoveredLedger.toATM().getBalance()).isEqualTo(2000);
+            }
+        }
+    }
+
+    @Test
+    public void openWhenLedgerIsEmpty() throws Exception {
+        // when
+        try (var ledger = ATMLedger.open(directory)) {
+            // then
+            assertThat(ledger.isEmpty()).isTrue();
+            assertThatThrownBy(ledger::toATM).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> ledger.append(ATMLedger.Operation.ENABLE))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    public void openWhenLogTailIsTorn() throws Exception {
+        // given
+        try (var ledger = ATMLedger.open(directory)) {
+            ledger.initialize(UUID.randomUUID(), Set.of(Denomination.DENOMINATION_100), true, 0);
+
+            ledger.append(ATMLedger.Operation.TAKE, Denomination.DENOMINATION_100, 1);
+            ledger.append(ATMLedger.Operation.TAKE, Denomination.DENOMINATION_100, 2);
+        }
+
+        var log = directory.resolve("atm.log");
+        var bytes = Files.readAllBytes(log);
+
+        // the second record is written partly and its checksum does not match
+        Files.write(log, Arrays.copyOf(bytes, bytes.length - 3), StandardOpenOption.TRUNCATE_EXISTING);
+
+        // when
+        try (var ledger = ATMLedger.open(directory)) {
+            // then
+            assertThat(ledger.getSequence()).isEqualTo(1L);
+            assertThat(ledger.toATM().getBalance()).isEqualTo(100);
+
+            ledger.append(ATMLedger.Operation.TAKE, Denomination.DENOMINATION_100, 4);
+        }
+
+        try (var ledger = ATMLedger.open(directory)) {
+            assertThat(ledger.getSequence()).isEqualTo(2L);
+            assertThat(ledger.toATM().getBalance()).isEqualTo(500);
+        }
+    }
+
+    @Test
+    public void openWhenCheckpointIsCorrupted() throws Exception {
+        // given
+        try (var ledger = ATMLedger.open(directory)) {
+            ledger.initialize(UUID.randomUUID(), Set.of(Denomination.DENOMINATION_100), true, 0);
+        }
+
+        var checkpoint = directory.resolve("atm.checkpoint");
+        var bytes = Files.readAllBytes(checkpoint);
+        bytes[20] ^= 1;
+
+        Files.write(checkpoint, bytes);
+
+        // when / then
+        assertThatThrownBy(() -> ATMLedger.open(directory)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void commitWhenCheckpointFails() throws Exception {
+        // given
+        try (var ledger = ATMLedger.open(directory, 1, Long.MAX_VALUE, 4)) {
+            ledger.initialize(UUID.randomUUID(), Set.of(Denomination.DENOMINATION_100), true, 0);
+
+            // a directory in place of the temporary checkpoint file makes every checkpoint fail
+            var blocker = Files.createDirectories(directory.resolve("atm.checkpoint.tmp").resolve("blocker"));
+            var log = directory.resolve("atm.log");
+
+            ledger.append(ATMLedger.Operation.TAKE, Denomination.DENOMINATION_100, 1);
+            var recordSize = Files.size(log);
+
+            // when
+            for (var i = 0; i < 6; i++) {
+                ledger.append(ATMLedger.Operation.TAKE, Denomination.DENOMINATION_100, 1);
+            }
+
+            // then
+            assertThat(Files.size(log)).isEqualTo(7 * recordSize);
+
+            Files.delete(blocker);
+            Files.delete(blocker.getParent());
+
+            // the failed checkpoint is retried one interval later
+            ledger.append(ATMLedger.Operation.TAKE, Denomination.DENOMINATION_100, 1);
+            assertThat(Files.size(log)).isZero();
+        }
+
+        try (var ledger = ATMLedger.open(directory)) {
+            assertThat(ledger.getSequence()).isEqualTo(8L);
+            assertThat(ledger.toATM().getBalance()).isEqualTo(800);
+        }
+    }
+
+    @Test
+    public void checkpoint() throws Exception {
+        // given
+        try (var ledger = ATMLedger.open(directory, 4, Long.MAX_VALUE, 10)) {
+            ledger.initialize(UUID.randomUUID(), Set.of(Denomination.DENOMINATION_500), true, 0);
+
+            // when
+            for (var i = 0; i < 25; i++) {
+                ledger.append(ATMLedger.Operation.TAKE, Denomination.DENOMINATION_500, 1);
+            }
+        }
+
+        // then
+        assertThat(Files.size(directory.resolve("atm.log")) < 25 * 40).isTrue();
+
+        try (var ledger = ATMLedger.open(directory)) {
+            assertThat(ledger.getSequence()).isEqualTo(25L);
+            assertThat(ledger.toATM().getBalance()).isEqualTo(12_500);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.luxoft.atm.io;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.atm.ATMDisabledException;
+import com.luxoft.atm.domain.model.atm.history.ATMHistoryEmptyException;
+import com.luxoft.atm.domain.model.banknote.Banknote;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JournaledATMTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class JournaledATMTest {
+    private static final Set<Denomination> DENOMINATIONS = Set.of(
+        Denomination.DENOMINATION_100,
+        Denomination.DENOMINATION_500,
+        Denomination.DENOMINATION_1000
+    );
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void open() throws Exception {
+        // given
+        var atm = JournaledATM.open(directory, DENOMINATIONS);
+
+        List<Banknote> banknotes = new ArrayList<>();
+        for (var i = 0; i < 5; i++) {
+            banknotes.add(Banknote.builder().denomination(Denomination.DENOMINATION_1000).build());
+            banknotes.add(Banknote.builder().denomination(Denomination.DENOMINATION_100).build());
+        }
+
+        banknotes.add(Banknote.builder().denomination(Denomination.DENOMINATION_5000).build());
+
+        var uuid = atm.getUuid();
+
+        // when
+        var rejectedBanknotes = atm.takeAll(banknotes);
+        atm.take(Banknote.builder().denomination(Denomination.DENOMINATION_500).build());
+        atm.give(1200);
+        atm.close();
+
+        // then
+        assertThat(rejectedBanknotes.size()).isEqualTo(1);
+
+        try (var recoveredATM = JournaledATM.open(directory, Set.of())) {
+            assertThat(recoveredATM.getUuid()).isEqualTo(uuid);
+            assertThat(recoveredATM.getBalance()).isEqualTo(4800);
+
+            // 4 banknotes of 1000, 1 of 500 and 3 of 100 are left
+            assertThat(recoveredATM.give(4800).size()).isEqualTo(8);
+        }
+    }
+
+    @Test
+    public void openWhenATMWasBackedUpAndDisabled() throws Exception {
+        // given
+        var atm = JournaledATM.open(directory, DENOMINATIONS);
+
+        atm.take(Banknote.builder().denomination(Denomination.DENOMINATION_1000).build());
+        atm.backup();
+        atm.take(Banknote.builder().denomination(Denomination.DENOMINATION_1000).build());
+        atm.backup();
+        atm.take(Banknote.builder().denomination(Denomination.DENOMINATION_500).build());
+        atm.restore();
+        atm.disable();
+
+        // when
+        atm.close();
+
+        // then
+        try (var recoveredATM = JournaledATM.open(directory, DENOMINATIONS)) {
+            assertThat(recoveredATM.enabled()).isFalse();
+            assertThatThrownBy(recoveredATM::getBalance).isInstanceOf(ATMDisabledException.class);
+
+            recoveredATM.enable();
+            assertThat(recoveredATM.getBalance()).isEqualTo(2000);
+
+            recoveredATM.restore();
+            assertThat(recoveredATM.getBalance()).isEqualTo(1000);
+            assertThatThrownBy(recoveredATM::restore).isInstanceOf(ATMHistoryEmptyException.class);
+        }
+    }
+
+    @Test
+    public void openWhenLedgerWasCheckpointed() throws Exception {
+        // given
+        var ledger = ATMLedger.open(directory, 8, Long.MAX_VALUE, 100);
+        var atm = JournaledATM.open(ledger, DENOMINATIONS, 2);
+
+        // when
+        for (var i = 0; i < 1_000; i++) {
+            atm.take(Banknote.builder().denomination(Denomination.DENOMINATION_100).build());
+            if (i % 10 == 0) {
+                atm.backup();
+            }
+        }
+
+        atm.give(50_000);
+        atm.close();
+
+        // then
+        try (var recoveredATM = JournaledATM.open(directory, DENOMINATIONS)) {
+            assertThat(recoveredATM.getBalance()).isEqualTo(50_000);
+
+            recoveredATM.restore();
+            assertThat(recoveredATM.getBalance()).isEqualTo(99_100);
+
+            recoveredATM.restore();
+            assertThat(recoveredATM.getBalance()).isEqualTo(98_100);
+
+            // the history keeps at most 2 snapshots
+            assertThatThrownBy(recoveredATM::restore).isInstanceOf(ATMHistoryEmptyException.class);
+        }
+    }
+
+    @Test
+    public void giveWhenLedgerFailsToWrite() throws Exception {
+        // given
+        var ledger = ATMLedger.open(directory, 8, Long.MAX_VALUE, 100);
+        var atm = JournaledATM.open(ledger, DENOMINATIONS, 0);
+
+        atm.take(Banknote.builder().denomination(Denomination.DENOMINATION_1000).build());
+        atm.take(Banknote.builder().denomination(Denomination.DENOMINATION_500).build());
+        ledger.close();
+
+        // when / then
+        assertThatThrownBy(() -> atm.give(1000)).isInstanceOf(UncheckedIOException.class);
+        assertThat(atm.getBalance()).isEqualTo(1500);
+        assertThat(atm.getBanknotesCount(Denomination.DENOMINATION_1000)).isEqualTo(1);
+
+        assertThatThrownBy(atm::disable).isInstanceOf(UncheckedIOException.class);
+        assertThat(atm.enabled()).isTrue();
+    }
+}
@@ -0,0 +1,125 @@
+package com.luxoft.atm.metrics;
+
+import com.luxoft.atm.domain.model.Denomination;
+import com.luxoft.atm.domain.model.atm.ConcurrentATM;
+import com.luxoft.atm.domain.model.banknote.BanknotesBox;
+import com.luxoft.atm.domain.model.banknote.Box;
+import com.luxoft.atm.domain.model.banknote.CountingBanknotesBox;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ATMMetricsTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ATMMetricsTest {
+    @Test
+    public void record() throws Exception {
+        // given
+        var metrics = new ATMMetrics();
+        metrics.attach(new RecordingExporter());
+
+        // when
+        var startedAt = metrics.start();
+        metrics.record(ATMMetrics.Operation.WITHDRAW, ATMMetrics.Outcome.SUCCESS, startedAt);
+        metrics.record(ATMMetrics.Operation.WITHDRAW, ATMMetrics.Outcome.INCORRECT_SUM, metrics.start());
+
+        // then
+        assertThat(metrics.getCount(ATMMetrics.Operation.WITHDRAW, ATMMetrics.Outcome.SUCCESS)).isEqualTo(1L);
+        assertThat(metrics.getCount(ATMMetrics.Operation.WITHDRAW, ATMMetrics.Outcome.INCORRECT_SUM)).isEqualTo(1L);
+        assertThat(metrics.getCount(ATMMetrics.Operation.DEPOSIT, ATMMetrics.Outcome.SUCCESS)).isEqualTo(0L);
+        assertThat(metrics.getLatency(ATMMetrics.Operation.WITHDRAW).getCount()).isEqualTo(2L);
+    }
+
+    @Test
+    public void recordWhenExporterIsNotAttached() throws Exception {
+        // given
+        var metrics = new ATMMetrics();
+
+        // when
+        var startedAt = metrics.start();
+        metrics.record(ATMMetrics.Operation.DEPOSIT, ATMMetrics.Outcome.SUCCESS, startedAt);
+
+        // then
+        assertThat(metrics.enabled()).isFalse();
+        assertThat(metrics.getCount(ATMMetrics.Operation.DEPOSIT, ATMMetrics.Outcome.SUCCESS)).isEqualTo(0L);
+        assertThat(metrics.getLatency(ATMMetrics.Operation.DEPOSIT).getCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void recordWhenExporterIsAttachedDuringOperation() throws Exception {
+        // given
+        var metrics = new ATMMetrics();
+        var startedAt = metrics.start();
+
+        // when
+        metrics.attach(new RecordingExporter());
+        metrics.record(ATMMetrics.Operation.DEPOSIT, ATMMetrics.Outcome.SUCCESS, startedAt);
+
+        // then
+        assertThat(metrics.getLatency(ATMMetrics.Operation.DEPOSIT).getCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void export() throws Exception {
+        // given
+        var metrics = new ATMMetrics();
+        var exporter = new RecordingExporter();
+        metrics.attach(exporter);
+
+        var banknotesBox100 = CountingBanknotesBox.builder()
+            .denomination(Denomination.DENOMINATION_100)
+            .count(7)
+            .build();
+
+        Set<BanknotesBox> banknoteBoxes = new HashSet<>(Set.of(banknotesBox100));
+
+        var atm = ConcurrentATM.builder()
+            .box(Box.builder().banknoteBoxes(banknoteBoxes).build())
+            .enabled(false)
+            .build();
+
+        metrics.registerStock(atm);
+        metrics.record(ATMMetrics.Operation.BACKUP, ATMMetrics.Outcome.DISABLED, metrics.start());
+
+        // when
+        metrics.export();
+
+        // then
+        assertThat(exporter.latencies).hasSize(ATMMetrics.Operation.values().length);
+        assertThat(exporter.counts).contains("BACKUP DISABLED 1", "BACKUP SUCCESS 0");
+        assertThat(exporter.stocks).contains(atm.getUuid() + " DENOMINATION_100 7", atm.getUuid() + " DENOMINATION_50 0");
+        assertThat(exporter.stocks).hasSize(Denomination.COUNT);
+    }
+
+    private static class RecordingExporter implements ATMMetricsExporter {
+        private final List<ATMMetrics.Operation> latencies = new ArrayList<>();
+        private final List<String> counts = new ArrayList<>();
+        private final List<String> stocks = new ArrayList<>();
+
+        @Override
+        public void exportLatency(ATMMetrics.Operation operation, LatencyHistogram histogram) {
+            latencies.add(operation);
+        }
+
+        @Override
+        public void exportCount(ATMMetrics.Operation operation, ATMMetrics.Outcome outcome, long count) {
+            counts.add(operation + " " + outcome + " " + count);
+        }
+
+        @Override
+        public void exportStock(UUID atmUuid, Denomination denomination, int count) {
+            stocks.add(atmUuid + " " + denomination + " " + count);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.luxoft.atm.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LatencyHistogramTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class LatencyHistogramTest {
+    @Test
+    public void record() throws Exception {
+        // given
+        var histogram = new LatencyHistogram();
+
+        // when
+        for (var value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000L);
+        }
+
+        // then
+        assertThat(histogram.getCount()).isEqualTo(10_000L);
+        assertThat(histogram.getMax()).isEqualTo(10_000_000L);
+        assertThat(histogram.getMean()).isEqualTo(5_000_500.0);
+
+        assertThat(histogram.getValueAtPercentile(50)).isBetween(5_000_000L, 5_100_000L);
+        assertThat(histogram.getValueAtPercentile(99)).isBetween(9_900_000L, 10_060_000L);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10_000_000L);
+    }
+
+    @Test
+    public void recordWhenValuesAreSmall() throws Exception {
+        // given
+        var histogram = new LatencyHistogram();
+
+        // when
+        histogram.record(-5);
+        histogram.record(3);
+        histogram.record(100);
+
+        // then
+        assertThat(histogram.getValueAtPercentile(0)).isEqualTo(0L);
+        assertThat(histogram.getValueAtPercentile(50)).isEqualTo(3L);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(100L);
+    }
+
+    @Test
+    public void getValueAtPercentileWhenNothingIsRecorded() throws Exception {
+        // given
+        var histogram = new LatencyHistogram();
+
+        // when / then
+        assertThat(histogram.getValueAtPercentile(99)).isEqualTo(0L);
+        assertThat(histogram.getMean()).isEqualTo(0.0);
+    }
+
+    @Test
+    public void recordWhenValueIsHuge() throws Exception {
+        // given
+        var histogram = new LatencyHistogram();
+
+        // when
+        histogram.record(Long.MAX_VALUE);
+
+        // then
+        assertThat(histogram.getValueAtPercentile(50)).isEqualTo(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,77 @@
+package com.luxoft.average.bulk;
+
+import com.luxoft.average.model.RingBufferMovingAverage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BulkMovingAveragesBenchmark class <br>
+ * Compares the multi-accumulator sum with a single accumulator loop,
+ * and bulk rolling averages (sequential and parallel) with feeding a ring buffer moving average
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkMovingAveragesBenchmark {
+    private static final int VALUES_COUNT = 1 << 20;
+
+    @Param({"1024", "131072", "524288"})
+    private int period;
+
+    private double[] values;
+    private double[] averages;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+
+        values = new double[VALUES_COUNT];
+        for (var i = 0; i < VALUES_COUNT; i++) {
+            values[i] = random.nextDouble() * 1000.0;
+        }
+
+        averages = new double[VALUES_COUNT];
+    }
+
+    @Benchmark
+    public double singleAccumulatorSum() {
+        var sum = 0.0;
+        for (var i = 0; i < period; i++) {
+            sum += values[i];
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public double multiAccumulatorSum() {
+        return BulkMovingAverages.sum(values, 0, period);
+    }
+
+    @Benchmark
+    public double[] ringBufferAverages() {
+        RingBufferMovingAverage.of(period).averages(values, averages);
+        return averages;
+    }
+
+    @Benchmark
+    public double[] bulkRollingAverages() {
+        BulkMovingAverages.rollingAverages(values, period, averages);
+        return averages;
+    }
+
+    @Benchmark
+    public double[] parallelRollingAverages() {
+        ParallelMovingAverages.rollingAverages(values, period, averages, true);
+        return averages;
+    }
+}
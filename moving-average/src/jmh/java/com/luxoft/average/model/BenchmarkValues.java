@@ -0,0 +1,36 @@
+package com.luxoft.average.model;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+
+/**
+ * BenchmarkValues class <br>
+ * Pregenerated random values of a benchmark thread, so value generation does not take part in measurements
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@State(Scope.Thread)
+public class BenchmarkValues {
+    private static final int VALUES_COUNT = 1 << 12;
+
+    private final double[] values = new double[VALUES_COUNT];
+    private int index;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(Thread.currentThread().getId());
+        for (var i = 0; i < VALUES_COUNT; i++) {
+            values[i] = random.nextDouble() * 1000.0;
+        }
+    }
+
+    double next() {
+        index = (index + 1) & (VALUES_COUNT - 1);
+        return values[index];
+    }
+}
@@ -0,0 +1,63 @@
+package com.luxoft.average.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CompensatedMovingAverageBenchmark class <br>
+ * Compares the compensated running sum against the plain one
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompensatedMovingAverageBenchmark {
+    private static final int VALUES_COUNT = 1 << 16;
+
+    @Param({"16", "1024", "1048576"})
+    private int period;
+
+    private double[] values;
+    private int index;
+
+    private RingBufferMovingAverage plain;
+    private CompensatedMovingAverage compensated;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+
+        values = new double[VALUES_COUNT];
+        for (var i = 0; i < VALUES_COUNT; i++) {
+            values[i] = random.nextDouble() * 1000.0;
+        }
+
+        plain = RingBufferMovingAverage.of(period);
+        compensated = CompensatedMovingAverage.of(period);
+    }
+
+    @Benchmark
+    public double plainAddValue() {
+        plain.addValue(nextValue());
+        return plain.getSum();
+    }
+
+    @Benchmark
+    public double compensatedAddValue() {
+        compensated.addValue(nextValue());
+        return compensated.getSum();
+    }
+
+    private double nextValue() {
+        index = (index + 1) & (VALUES_COUNT - 1);
+        return values[index];
+    }
+}
@@ -0,0 +1,81 @@
+package com.luxoft.average.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConcurrentMovingAverageBenchmark class <br>
+ * Shows how the lock-free ring scales with writer threads compared to a globally synchronized ring
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentMovingAverageBenchmark {
+    @Param({"1024", "1048576"})
+    private int period;
+
+    private ConcurrentMovingAverage concurrent;
+    private RingBufferMovingAverage synchronizedRing;
+
+    @Setup
+    public void setUp() {
+        concurrent = ConcurrentMovingAverage.of(period);
+        synchronizedRing = RingBufferMovingAverage.of(period);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void concurrent1Thread(BenchmarkValues values) {
+        concurrent.addValue(values.next());
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void concurrent2Threads(BenchmarkValues values) {
+        concurrent.addValue(values.next());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void concurrent4Threads(BenchmarkValues values) {
+        concurrent.addValue(values.next());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void concurrentMaxThreads(BenchmarkValues values) {
+        concurrent.addValue(values.next());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void synchronized1Thread(BenchmarkValues values) {
+        addSynchronized(values.next());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void synchronized4Threads(BenchmarkValues values) {
+        addSynchronized(values.next());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void synchronizedMaxThreads(BenchmarkValues values) {
+        addSynchronized(values.next());
+    }
+
+    private void addSynchronized(double value) {
+        synchronized (synchronizedRing) {
+            synchronizedRing.addValue(value);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.luxoft.average.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MovingAverageBenchmark class <br>
+ * Compares every {@link MovingAverage} implementation against the {@link SimpleMovingAverage} (LinkedList) baseline <br>
+ * Run with the GC profiler (configured in build.gradle) to see an allocation rate per operation
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovingAverageBenchmark {
+    @Param({"simple", "ringBuffer", "compensated", "weighted", "exponential", "concurrent", "rollingStatistics"})
+    private String implementation;
+
+    @Param({"4", "64", "1024", "65536", "1000000"})
+    private int period;
+
+    private MovingAverage movingAverage;
+    private boolean threadSafe;
+
+    @Setup
+    public void setUp() {
+        movingAverage = create(implementation, period);
+        threadSafe = movingAverage instanceof ConcurrentMovingAverage;
+
+        // fill the window, so getAverage measures a ready average
+        var random = new SplittableRandom(42);
+        for (var i = 0; i < period; i++) {
+            movingAverage.addValue(random.nextDouble() * 1000.0);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void addValue(BenchmarkValues values) {
+        movingAverage.addValue(values.next());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public double getAverage() throws MovingAverageException {
+        return movingAverage.getAverage();
+    }
+
+    /**
+     * Non thread-safe implementations are guarded by a global lock, the way they are shared in production now
+     */
+    @Benchmark
+    @Threads(4)
+    public void addValueMultiThreaded(BenchmarkValues values) {
+        if (threadSafe) {
+            movingAverage.addValue(values.next());
+            return;
+        }
+
+        synchronized (movingAverage) {
+            movingAverage.addValue(values.next());
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public double getAverageMultiThreaded() throws MovingAverageException {
+        if (threadSafe) {
+            return movingAverage.getAverage();
+        }
+
+        synchronized (movingAverage) {
+            return movingAverage.getAverage();
+        }
+    }
+
+    private static MovingAverage create(String implementation, int period) {
+        switch (implementation) {
+            case "simple":
+                return SimpleMovingAverage.of(period);
+            case "ringBuffer":
+                return RingBufferMovingAverage.of(period);
+            case "compensated":
+                return CompensatedMovingAverage.of(period);
+            case "weighted":
+                return WeightedMovingAverage.of(period);
+            case "exponential":
+                return ExponentialMovingAverage.of(period);
+            case "concurrent":
+                return ConcurrentMovingAverage.of(period);
+            case "rollingStatistics":
+                return RollingStatistics.of(period);
+            default:
+                throw new IllegalArgumentException(String.format("Unknown implementation \"%s\"", implementation));
+        }
+    }
+}
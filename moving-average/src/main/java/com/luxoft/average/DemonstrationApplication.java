@@ -1,9 +1,13 @@
 package com.luxoft.average;
 
+import com.luxoft.average.io.TickFileReplayer;
+import com.luxoft.average.model.CompensatedMovingAverage;
 import com.luxoft.average.model.MovingAverage;
 import com.luxoft.average.model.MovingAverageException;
 import com.luxoft.average.model.SimpleMovingAverage;
 
+import java.nio.file.Path;
+
 /**
  * DemonstrationApplication class
  *
@@ -13,6 +17,15 @@ import com.luxoft.average.model.SimpleMovingAverage;
  */
 public class DemonstrationApplication {
     public static void main(String[] args) throws Exception {
+        // File-driven mode: <period> <input ticks file> <output averages file>
+        if (args.length == 3) {
+            var replayer = TickFileReplayer.of(CompensatedMovingAverage.of(Integer.parseInt(args[0])));
+            var ticksCount = replayer.replay(Path.of(args[1]), Path.of(args[2]));
+
+            System.out.printf("Replayed ticks: %d%n", ticksCount);
+            return;
+        }
+
         var period = 4;
 
         MovingAverage movingAverage = SimpleMovingAverage.of(period, new double[] {21.0, 13.0, 54.0});
@@ -0,0 +1,285 @@
+package com.luxoft.average;
+
+/**
+ * MovingAverageRegistry class <br>
+ * Keeps simple moving averages with the same period for many independent series (e.g. instruments) <br>
+ * All windows live in one primitive slab (struct of arrays), so adding a value or reading an average
+ * allocates nothing. The number of series is limited by a memory budget; when the registry is full,
+ * an idle series is evicted with the CLOCK (second chance) policy
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class MovingAverageRegistry {
+    private static final int NO_SLOT = -1;
+
+    private final int period;
+    private final int capacity;
+
+    // series state, indexed by slot
+    private final double[] windows;
+    private final long[] keys;
+    private final double[] sums;
+    private final int[] heads;
+    private final int[] counts;
+    private final boolean[] referenced;
+
+    // open addressing index: key hash -> slot + 1 (0 means an empty cell)
+    private final int[] table;
+    private final int mask;
+
+    private int size;
+    private int clockHand;
+
+    private MovingAverageRegistry(int period, long memoryBudget) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(String.format("Period should be more than 0, but %d passed", period));
+        }
+
+        var capacity = Math.min(memoryBudget / bytesPerSeries(period), (Integer.MAX_VALUE - 8) / period);
+        capacity = Math.min(capacity, 1 << 28);
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Memory budget %d is not enough to keep even one series of %d period", memoryBudget, period)
+            );
+        }
+
+        this.period = period;
+        this.capacity = (int) capacity;
+
+        this.windows = new double[this.capacity * period];
+        this.keys = new long[this.capacity];
+        this.sums = new double[this.capacity];
+        this.heads = new int[this.capacity];
+        this.counts = new int[this.capacity];
+        this.referenced = new boolean[this.capacity];
+
+        var tableSize = Integer.highestOneBit(this.capacity) << 2;
+        this.table = new int[tableSize];
+        this.mask = tableSize - 1;
+    }
+
+    public static MovingAverageRegistry of(int period, long memoryBudget) {
+        return new MovingAverageRegistry(period, memoryBudget);
+    }
+
+    /**
+     * Gets a count of bytes one series takes in the registry
+     *
+     * @param period a calculation's period
+     * @return a count of bytes per series
+     */
+    public static long bytesPerSeries(int period) {
+        // window + key + sum + head + count + referenced flag + 4 index cells at most
+        return (long) period * Double.BYTES + Long.BYTES + Double.BYTES + 2 * Integer.BYTES + 1 + 4 * Integer.BYTES;
+    }
+
+    public int getPeriod() {
+        return period;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(long key) {
+        return find(key) != NO_SLOT;
+    }
+
+    /**
+     * Adds a new value to a series, the series is created if it does not exist yet
+     *
+     * @param key   a series key
+     * @param value a new value
+     */
+    public void add(long key, double value) {
+        var slot = find(key);
+        if (slot == NO_SLOT) {
+            slot = allocate(key);
+        }
+
+        referenced[slot] = true;
+
+        var head = heads[slot];
+        var position = slot * period + head;
+
+        if (counts[slot] < period) {
+            counts[slot]++;
+            sums[slot] += value;
+        } else {
+            sums[slot] += value - windows[position];
+        }
+
+        windows[position] = value;
+        heads[slot] = head + 1 == period ? 0 : head + 1;
+    }
+
+    /**
+     * Gets an average of a series
+     *
+     * @param key a series key
+     * @return an average or {@link Double#NaN} if the series is unknown or its values are not enough
+     */
+    public double average(long key) {
+        var slot = find(key);
+        if (slot == NO_SLOT) {
+            return Double.NaN;
+        }
+
+        referenced[slot] = true;
+
+        return counts[slot] < period ? Double.NaN : sums[slot] / period;
+    }
+
+    /**
+     * Removes a series
+     *
+     * @param key a series key
+     * @return true if the series was removed or false if it was not found
+     */
+    public boolean remove(long key) {
+        var slot = find(key);
+        if (slot == NO_SLOT) {
+            return false;
+        }
+
+        unindex(key);
+
+        // move the last slot into the freed one to keep slots dense
+        var last = size - 1;
+        if (slot != last) {
+            moveSlot(last, slot);
+        }
+
+        size--;
+        if (clockHand >= size) {
+            clockHand = 0;
+        }
+
+        return true;
+    }
+
+    private int find(long key) {
+        var cell = hash(key) & mask;
+
+        while (table[cell] != 0) {
+            var slot = table[cell] - 1;
+            if (keys[slot] == key) {
+                return slot;
+            }
+
+            cell = (cell + 1) & mask;
+        }
+
+        return NO_SLOT;
+    }
+
+    private int allocate(long key) {
+        int slot;
+        if (size < capacity) {
+            slot = size++;
+        } else {
+            slot = evict();
+        }
+
+        keys[slot] = key;
+        sums[slot] = 0.0;
+        heads[slot] = 0;
+        counts[slot] = 0;
+
+        index(key, slot);
+
+        return slot;
+    }
+
+    private int evict() {
+        while (referenced[clockHand]) {
+            referenced[clockHand] = false;
+            clockHand = clockHand + 1 == size ? 0 : clockHand + 1;
+        }
+
+        var victim = clockHand;
+        clockHand = clockHand + 1 == size ? 0 : clockHand + 1;
+
+        unindex(keys[victim]);
+
+        return victim;
+    }
+
+    private void moveSlot(int from, int to) {
+        var key = keys[from];
+
+        keys[to] = key;
+        sums[to] = sums[from];
+        heads[to] = heads[from];
+        counts[to] = counts[from];
+        referenced[to] = referenced[from];
+        System.arraycopy(windows, from * period, windows, to * period, period);
+
+        var cell = hash(key) & mask;
+        while (table[cell] != from + 1) {
+            cell = (cell + 1) & mask;
+        }
+
+        table[cell] = to + 1;
+    }
+
+    private void index(long key, int slot) {
+        var cell = hash(key) & mask;
+        while (table[cell] != 0) {
+            cell = (cell + 1) & mask;
+        }
+
+        table[cell] = slot + 1;
+    }
+
+    private void unindex(long key) {
+        var cell = hash(key) & mask;
+        while (keys[table[cell] - 1] != key) {
+            cell = (cell + 1) & mask;
+        }
+
+        // backward shift deletion keeps probe chains unbroken without tombstones
+        var hole = cell;
+        var next = (hole + 1) & mask;
+
+        while (table[next] != 0) {
+            var home = hash(keys[table[next] - 1]) & mask;
+            var homeInRange = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+
+            if (!homeInRange) {
+                table[hole] = table[next];
+                hole = next;
+            }
+
+            next = (next + 1) & mask;
+        }
+
+        table[hole] = 0;
+    }
+
+    private static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+
+        return (int) key;
+    }
+
+    @Override
+    public String toString() {
+        return "MovingAverageRegistry{" +
+            "period=" + period +
+            ", capacity=" + capacity +
+            ", size=" + size +
+            '}';
+    }
+}
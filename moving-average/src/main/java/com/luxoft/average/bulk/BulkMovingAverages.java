@@ -0,0 +1,196 @@
+package com.luxoft.average.bulk;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * BulkMovingAverages class <br>
+ * Bulk computations over plain double arrays: <br>
+ * - a window sum with 4 independent accumulators, so the additions do not wait for each other <br>
+ * - rolling averages of a whole array, where the window is re-summed at the start of every block
+ *   to stop the running sum drift and slid inside the block (optionally with Neumaier compensation) <br>
+ * Block boundaries depend only on the values count and the period, so every block can be computed
+ * independently and {@link ParallelMovingAverages} gives bit-for-bit the same averages
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public final class BulkMovingAverages {
+    static final int BLOCK_SIZE = 1 << 14;
+
+    private BulkMovingAverages() {
+    }
+
+    /**
+     * Sums a range of values
+     *
+     * @param values an array of values
+     * @param from   an index of the first value (inclusive)
+     * @param to     an index of the last value (exclusive)
+     *
+     * @return a sum of the range
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     */
+    public static double sum(double[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+
+        var sum0 = 0.0;
+        var sum1 = 0.0;
+        var sum2 = 0.0;
+        var sum3 = 0.0;
+
+        var i = from;
+        for (; i + 3 < to; i += 4) {
+            sum0 += values[i];
+            sum1 += values[i + 1];
+            sum2 += values[i + 2];
+            sum3 += values[i + 3];
+        }
+
+        for (; i < to; i++) {
+            sum0 += values[i];
+        }
+
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * Writes a rolling average of the last period values for every position of an array <br>
+     * Positions before the first full window get {@link Double#NaN}
+     *
+     * @param values   an array of values
+     * @param period   a calculation's period
+     * @param averages an array to write averages to (at least as long as values)
+     */
+    public static void rollingAverages(double[] values, int period, double[] averages) {
+        rollingAverages(values, period, averages, false);
+    }
+
+    /**
+     * Writes a rolling average of the last period values for every position of an array <br>
+     * Positions before the first full window get {@link Double#NaN}
+     *
+     * @param values      an array of values
+     * @param period      a calculation's period
+     * @param averages    an array to write averages to (at least as long as values)
+     * @param compensated whether window sums should be kept with Neumaier compensation
+     */
+    public static void rollingAverages(double[] values, int period, double[] averages, boolean compensated) {
+        validate(values, period, averages);
+
+        fillWarmUp(values, period, averages);
+
+        var blocksCount = blocksCount(values.length, period);
+        for (var block = 0; block < blocksCount; block++) {
+            rollBlock(values, period, averages, block, compensated);
+        }
+    }
+
+    /**
+     * Sums a range of values with Neumaier compensation
+     *
+     * @param values an array of values
+     * @param from   an index of the first value (inclusive)
+     * @param to     an index of the last value (exclusive)
+     *
+     * @return a compensated sum of the range
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     */
+    public static double compensatedSum(double[] values, int from, int to) {
+        Objects.checkFromToIndex(from, to, values.length);
+
+        var sum = 0.0;
+        var compensation = 0.0;
+
+        for (var i = from; i < to; i++) {
+            var value = values[i];
+            var total = sum + value;
+
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - total) + value;
+            } else {
+                compensation += (value - total) + sum;
+            }
+
+            sum = total;
+        }
+
+        return sum + compensation;
+    }
+
+    static void validate(double[] values, int period, double[] averages) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(String.format("Period should be more than 0, but %d passed", period));
+        }
+
+        if (averages.length < values.length) {
+            throw new IllegalArgumentException("Averages array should not be shorter than values array");
+        }
+    }
+
+    static void fillWarmUp(double[] values, int period, double[] averages) {
+        Arrays.fill(averages, 0, Math.min(period - 1, values.length), Double.NaN);
+    }
+
+    /**
+     * Gets a count of positions computed from one re-summed window <br>
+     * It is never less than the period, so re-summation costs at most one extra pass over the values
+     */
+    static int blockSize(int period) {
+        return Math.max(BLOCK_SIZE, period);
+    }
+
+    static int blocksCount(int valuesCount, int period) {
+        var positionsCount = valuesCount - (period - 1);
+        if (positionsCount <= 0) {
+            return 0;
+        }
+
+        // a rounding up addend would overflow for counts close to Integer.MAX_VALUE
+        return (positionsCount - 1) / blockSize(period) + 1;
+    }
+
+    /**
+     * Computes averages for the positions of a block, re-summing the window that ends at its first position
+     */
+    static void rollBlock(double[] values, int period, double[] averages, int block, boolean compensated) {
+        var blockSize = blockSize(period);
+        var from = period - 1 + block * blockSize;
+        var to = (int) Math.min((long) from + blockSize, values.length);
+
+        if (compensated) {
+            rollCompensatedBlock(values, period, averages, from, to);
+            return;
+        }
+
+        var sum = sum(values, from - period + 1, from + 1);
+        averages[from] = sum / period;
+
+        for (var i = from + 1; i < to; i++) {
+            sum += values[i] - values[i - period];
+            averages[i] = sum / period;
+        }
+    }
+
+    private static void rollCompensatedBlock(double[] values, int period, double[] averages, int from, int to) {
+        var sum = compensatedSum(values, from - period + 1, from + 1);
+        var compensation = 0.0;
+
+        averages[from] = sum / period;
+
+        for (var i = from + 1; i < to; i++) {
+            var added = values[i];
+            var total = sum + added;
+            compensation += Math.abs(sum) >= Math.abs(added) ? (sum - total) + added : (added - total) + sum;
+            sum = total;
+
+            var evicted = -values[i - period];
+            total = sum + evicted;
+            compensation += Math.abs(sum) >= Math.abs(evicted) ? (sum - total) + evicted : (evicted - total) + sum;
+            sum = total;
+
+            averages[i] = (sum + compensation) / period;
+        }
+    }
+}
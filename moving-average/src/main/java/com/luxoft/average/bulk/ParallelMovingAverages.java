@@ -0,0 +1,106 @@
+package com.luxoft.average.bulk;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelMovingAverages class <br>
+ * Computes rolling averages of huge arrays on a {@link ForkJoinPool} <br>
+ * The array is split into the same blocks {@link BulkMovingAverages} uses, every block re-sums
+ * its window from the period - 1 values before it, so tasks share nothing but the output array
+ * and the result is bit-for-bit equal to the sequential one (with or without compensation)
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public final class ParallelMovingAverages {
+    private static final int BLOCKS_PER_TASK = 4;
+
+    private ParallelMovingAverages() {
+    }
+
+    /**
+     * Writes a rolling average for every position of an array using the common pool
+     *
+     * @param values      an array of values
+     * @param period      a calculation's period
+     * @param averages    an array to write averages to (at least as long as values)
+     * @param compensated whether window sums should be kept with Neumaier compensation
+     */
+    public static void rollingAverages(double[] values, int period, double[] averages, boolean compensated) {
+        rollingAverages(values, period, averages, compensated, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Writes a rolling average for every position of an array using a passed pool
+     *
+     * @param values      an array of values
+     * @param period      a calculation's period
+     * @param averages    an array to write averages to (at least as long as values)
+     * @param compensated whether window sums should be kept with Neumaier compensation
+     * @param pool        a pool to run tasks on
+     */
+    public static void rollingAverages(
+        double[] values,
+        int period,
+        double[] averages,
+        boolean compensated,
+        ForkJoinPool pool
+    ) {
+        BulkMovingAverages.validate(values, period, averages);
+        BulkMovingAverages.fillWarmUp(values, period, averages);
+
+        var blocksCount = BulkMovingAverages.blocksCount(values.length, period);
+        if (blocksCount == 0) {
+            return;
+        }
+
+        pool.invoke(new RollingAveragesTask(values, period, averages, compensated, 0, blocksCount));
+    }
+
+    private static final class RollingAveragesTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] values;
+        private final int period;
+        private final double[] averages;
+        private final boolean compensated;
+
+        private final int fromBlock;
+        private final int toBlock;
+
+        private RollingAveragesTask(
+            double[] values,
+            int period,
+            double[] averages,
+            boolean compensated,
+            int fromBlock,
+            int toBlock
+        ) {
+            this.values = values;
+            this.period = period;
+            this.averages = averages;
+            this.compensated = compensated;
+            this.fromBlock = fromBlock;
+            this.toBlock = toBlock;
+        }
+
+        @Override
+        protected void compute() {
+            if (toBlock - fromBlock <= BLOCKS_PER_TASK) {
+                for (var block = fromBlock; block < toBlock; block++) {
+                    BulkMovingAverages.rollBlock(values, period, averages, block, compensated);
+                }
+
+                return;
+            }
+
+            var middleBlock = (fromBlock + toBlock) >>> 1;
+            invokeAll(
+                new RollingAveragesTask(values, period, averages, compensated, fromBlock, middleBlock),
+                new RollingAveragesTask(values, period, averages, compensated, middleBlock, toBlock)
+            );
+        }
+    }
+}
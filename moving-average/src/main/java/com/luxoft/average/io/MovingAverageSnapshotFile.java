@@ -0,0 +1,225 @@
+package com.luxoft.average.io;
+
+import com.luxoft.average.model.MovingAverage;
+import com.luxoft.average.model.MovingAverageSnapshots;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * MovingAverageSnapshotFile class <br>
+ * A file of many {@link MovingAverageSnapshots} records: <br>
+ * - a header: magic (int), version (short), reserved (short), records count (int), max record size (int) <br>
+ * - an offset (long) of every record <br>
+ * - records one after another <br>
+ * An opened file is memory-mapped lazily segment by segment, so a moving average is restored
+ * only when it is requested and the startup does not wait for the whole file to be read <br>
+ * Not thread-safe
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class MovingAverageSnapshotFile implements Closeable {
+    private static final int MAGIC = 0x4D415653;
+    private static final int HEADER_SIZE = 16;
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    // a segment is mapped with a max record size tail, and a mapping cannot be bigger than Integer.MAX_VALUE
+    static final int MAX_RECORD_SIZE = (int) (Integer.MAX_VALUE - SEGMENT_SIZE);
+
+    // the offsets table is mapped at once and indexed by int positions
+    static final int MAX_COUNT = Integer.MAX_VALUE / Long.BYTES;
+
+    private final FileChannel channel;
+    private final long fileSize;
+
+    private final int count;
+    private final int maxRecordSize;
+    private final ByteBuffer offsets;
+
+    private final MappedByteBuffer[] segments;
+
+    private MovingAverageSnapshotFile(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.fileSize = channel.size();
+
+        if (fileSize < HEADER_SIZE) {
+            throw new IllegalArgumentException("Moving average snapshot file is too short");
+        }
+
+        var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (header.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Moving average snapshot file has a wrong magic number");
+        }
+
+        var version = header.getShort();
+        if (version != MovingAverageSnapshots.VERSION) {
+            throw new IllegalArgumentException(String.format("Unsupported moving average snapshot version %d", version));
+        }
+
+        header.getShort();
+        this.count = header.getInt();
+        this.maxRecordSize = header.getInt();
+
+        if (count < 0 || count > MAX_COUNT || maxRecordSize < 0 || maxRecordSize > MAX_RECORD_SIZE) {
+            throw new IllegalArgumentException("Moving average snapshot file has a broken header");
+        }
+
+        this.offsets = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, (long) count * Long.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+
+        this.segments = new MappedByteBuffer[(int) ((fileSize + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+    }
+
+    /**
+     * Opens a snapshot file for lazy restoring
+     *
+     * @param path a snapshot file
+     * @return an opened snapshot file
+     * @throws IOException if unable to open the file
+     */
+    public static MovingAverageSnapshotFile open(Path path) throws IOException {
+        var channel = FileChannel.open(path, StandardOpenOption.READ);
+
+        try {
+            return new MovingAverageSnapshotFile(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes snapshots of moving averages into a file
+     *
+     * @param movingAverages moving averages to save
+     * @param path           a snapshot file (created or truncated)
+     * @throws IOException if unable to write the file
+     * @throws IllegalArgumentException if there are more than {@link #MAX_COUNT} moving averages, a moving average
+     *                                  is not supported or its record is bigger than {@link #MAX_RECORD_SIZE}
+     */
+    public static void save(List<? extends MovingAverage> movingAverages, Path path) throws IOException {
+        if (movingAverages.size() > MAX_COUNT) {
+            throw new IllegalArgumentException(
+                String.format("%d moving averages are more than %d", movingAverages.size(), MAX_COUNT)
+            );
+        }
+
+        var maxRecordSize = 0;
+        for (var movingAverage : movingAverages) {
+            var recordSize = MovingAverageSnapshots.sizeOf(movingAverage);
+            if (recordSize > MAX_RECORD_SIZE) {
+                throw new IllegalArgumentException(
+                    String.format("Record of %d bytes is bigger than %d bytes", recordSize, MAX_RECORD_SIZE)
+                );
+            }
+
+            maxRecordSize = Math.max(maxRecordSize, recordSize);
+        }
+
+        try (
+            var channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            )
+        ) {
+            var buffer = ByteBuffer.allocateDirect(Math.max(WRITE_BUFFER_SIZE, maxRecordSize))
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(MAGIC)
+                .putShort(MovingAverageSnapshots.VERSION)
+                .putShort((short) 0)
+                .putInt(movingAverages.size())
+                .putInt(maxRecordSize);
+
+            var offset = HEADER_SIZE + (long) movingAverages.size() * Long.BYTES;
+            for (var movingAverage : movingAverages) {
+                if (buffer.remaining() < Long.BYTES) {
+                    flush(buffer, channel);
+                }
+
+                buffer.putLong(offset);
+                offset += MovingAverageSnapshots.sizeOf(movingAverage);
+            }
+
+            for (var movingAverage : movingAverages) {
+                if (buffer.remaining() < MovingAverageSnapshots.sizeOf(movingAverage)) {
+                    flush(buffer, channel);
+                }
+
+                MovingAverageSnapshots.write(movingAverage, buffer);
+            }
+
+            flush(buffer, channel);
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Restores a moving average from its record
+     *
+     * @param index a record index
+     * @return a restored moving average
+     * @throws IOException if unable to map the file
+     * @throws IndexOutOfBoundsException if there is no record with this index
+     */
+    public MovingAverage restore(int index) throws IOException {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(String.format("Record %d is out of %d records", index, count));
+        }
+
+        // index is not bigger than MAX_COUNT, so its position does not overflow
+        var offset = offsets.getLong(index * Long.BYTES);
+        var segmentIndex = (int) (offset / SEGMENT_SIZE);
+
+        var record = segment(segmentIndex).duplicate();
+        record.position((int) (offset - segmentIndex * SEGMENT_SIZE));
+
+        return MovingAverageSnapshots.read(record);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Maps a segment with an extra max record size tail, so every record starting in it is mapped entirely
+     */
+    private MappedByteBuffer segment(int index) throws IOException {
+        var segment = segments[index];
+        if (segment == null) {
+            var position = index * SEGMENT_SIZE;
+            var size = Math.min(SEGMENT_SIZE + maxRecordSize, fileSize - position);
+
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+            segments[index] = segment;
+        }
+
+        return segment;
+    }
+
+    private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+}
@@ -0,0 +1,121 @@
+package com.luxoft.average.io;
+
+import com.luxoft.average.model.MovingAverage;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * TickFileReplayer class <br>
+ * Replays a flat binary file of little-endian doubles through a {@link MovingAverage}
+ * and writes a rolling average for every tick into an output file of the same layout
+ * ({@link Double#NaN} while values are not enough) <br>
+ * Both files are memory-mapped window by window and values go through
+ * {@link MovingAverage#averages(double[], double[], int)} in chunks, so with an average which overrides it
+ * (e.g. {@link com.luxoft.average.model.CompensatedMovingAverage}) a replay is bounded by the disk
+ * rather than by per-value calls
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class TickFileReplayer {
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+    private static final long DEFAULT_MAPPING_SIZE = 1L << 28;
+
+    private final MovingAverage movingAverage;
+    private final int chunkSize;
+    private final long mappingSize;
+
+    private final double[] values;
+    private final double[] averages;
+
+    private TickFileReplayer(MovingAverage movingAverage, int chunkSize, long mappingSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(String.format("Chunk size should be more than 0, but %d passed", chunkSize));
+        }
+
+        if (mappingSize < (long) chunkSize * Double.BYTES || mappingSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("Mapping size %d is out of range", mappingSize));
+        }
+
+        this.movingAverage = movingAverage;
+        this.chunkSize = chunkSize;
+
+        // a mapping should hold whole chunks only
+        this.mappingSize = mappingSize - mappingSize % ((long) chunkSize * Double.BYTES);
+
+        this.values = new double[chunkSize];
+        this.averages = new double[chunkSize];
+    }
+
+    public static TickFileReplayer of(MovingAverage movingAverage) {
+        return new TickFileReplayer(movingAverage, DEFAULT_CHUNK_SIZE, DEFAULT_MAPPING_SIZE);
+    }
+
+    public static TickFileReplayer of(MovingAverage movingAverage, int chunkSize, long mappingSize) {
+        return new TickFileReplayer(movingAverage, chunkSize, mappingSize);
+    }
+
+    /**
+     * Replays all ticks of an input file
+     *
+     * @param input  a file of little-endian doubles
+     * @param output a file to write rolling averages to (created or truncated)
+     *
+     * @return a count of replayed ticks
+     *
+     * @throws IOException if unable to read or write the files
+     * @throws IllegalArgumentException if the input file size is not a multiple of a double size
+     */
+    public long replay(Path input, Path output) throws IOException {
+        try (
+            var inputChannel = FileChannel.open(input, StandardOpenOption.READ);
+            var outputChannel = FileChannel.open(
+                output,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            )
+        ) {
+            var size = inputChannel.size();
+            if (size % Double.BYTES != 0) {
+                throw new IllegalArgumentException(
+                    String.format("Input file size %d is not a multiple of %d bytes", size, Double.BYTES)
+                );
+            }
+
+            for (var position = 0L; position < size; position += mappingSize) {
+                var length = Math.min(mappingSize, size - position);
+
+                var inputTicks = inputChannel.map(FileChannel.MapMode.READ_ONLY, position, length)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asDoubleBuffer();
+
+                var outputAverages = outputChannel.map(FileChannel.MapMode.READ_WRITE, position, length)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asDoubleBuffer();
+
+                while (inputTicks.remaining() >= chunkSize) {
+                    inputTicks.get(values);
+                    movingAverage.averages(values, averages, chunkSize);
+                    outputAverages.put(averages);
+                }
+
+                // the tail reuses the chunk arrays, so a replay allocates nothing after construction
+                var tailLength = inputTicks.remaining();
+                if (tailLength > 0) {
+                    inputTicks.get(values, 0, tailLength);
+                    movingAverage.averages(values, averages, tailLength);
+                    outputAverages.put(averages, 0, tailLength);
+                }
+            }
+
+            return size / Double.BYTES;
+        }
+    }
+}
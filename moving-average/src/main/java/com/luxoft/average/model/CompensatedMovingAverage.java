@@ -0,0 +1,157 @@
+package com.luxoft.average.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * CompensatedMovingAverage class <br>
+ * Keeps the running sum with Neumaier compensation, so it does not drift
+ * over unbounded streams (every added and evicted value is a compensated addition)
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class CompensatedMovingAverage implements PeriodicMovingAverage {
+    private final int period;
+
+    private final double[] values;
+    private int head;
+    private int count;
+
+    private double sum;
+    private double compensation;
+
+    private CompensatedMovingAverage(int period, double[] initialValues) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(String.format("Period should be more than 0, but %d passed", period));
+        }
+
+        if (period < initialValues.length) {
+            throw new IllegalArgumentException("Period should be greater than initial values count");
+        }
+
+        this.period = period;
+
+        this.values = new double[period];
+        for (var value : initialValues) {
+            addValue(value);
+        }
+    }
+
+    public static CompensatedMovingAverage of(int period) {
+        return new CompensatedMovingAverage(period, new double[] {});
+    }
+
+    public static CompensatedMovingAverage of(int period, double[] initialValues) {
+        return new CompensatedMovingAverage(period, initialValues);
+    }
+
+    public double getSum() {
+        return sum + compensation;
+    }
+
+    @Override
+    public void addValue(double value) {
+        accumulate(value);
+
+        if (count < period) {
+            count++;
+        } else {
+            accumulate(-values[head]);
+        }
+
+        values[head] = value;
+        if (++head == period) {
+            head = 0;
+        }
+    }
+
+    @Override
+    public void averages(double[] values, double[] averages, int length) {
+        if (length < 0 || length > values.length || length > averages.length) {
+            throw new IllegalArgumentException(String.format("Length %d is out of the values or averages bounds", length));
+        }
+
+        var window = this.values;
+        var head = this.head;
+        var count = this.count;
+        var sum = this.sum;
+        var compensation = this.compensation;
+
+        for (var i = 0; i < length; i++) {
+            var value = values[i];
+            var total = sum + value;
+            compensation += Math.abs(sum) >= Math.abs(value) ? (sum - total) + value : (value - total) + sum;
+            sum = total;
+
+            if (count < period) {
+                count++;
+            } else {
+                var evicted = -window[head];
+                total = sum + evicted;
+                compensation += Math.abs(sum) >= Math.abs(evicted) ? (sum - total) + evicted : (evicted - total) + sum;
+                sum = total;
+            }
+
+            window[head] = value;
+            if (++head == period) {
+                head = 0;
+            }
+
+            averages[i] = count < period ? Double.NaN : (sum + compensation) / period;
+        }
+
+        this.head = head;
+        this.count = count;
+        this.sum = sum;
+        this.compensation = compensation;
+    }
+
+    @Override
+    public double getAverage() throws MovingAverageException {
+        if (!isReady()) {
+            throw new MovingAverageException("Unable to get average when values are not enough");
+        }
+
+        return (sum + compensation) / period;
+    }
+
+    @Override
+    public boolean isReady() {
+        return count == period;
+    }
+
+    @Override
+    public double getAverageOrNaN() {
+        return isReady() ? (sum + compensation) / period : Double.NaN;
+    }
+
+    @Override
+    public int getPeriod() {
+        return period;
+    }
+
+    void writeState(ByteBuffer buffer) {
+        buffer.putInt(count).putInt(head).putDouble(sum).putDouble(compensation);
+        MovingAverageSnapshots.putRing(buffer, values);
+    }
+
+    void readState(ByteBuffer buffer) {
+        count = MovingAverageSnapshots.readCount(buffer, period);
+        head = MovingAverageSnapshots.readHead(buffer, period);
+        sum = buffer.getDouble();
+        compensation = buffer.getDouble();
+        MovingAverageSnapshots.getRing(buffer, values);
+    }
+
+    private void accumulate(double value) {
+        var total = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - total) + value;
+        } else {
+            compensation += (value - total) + sum;
+        }
+
+        sum = total;
+    }
+}
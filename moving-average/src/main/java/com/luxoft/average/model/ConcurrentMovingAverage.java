@@ -0,0 +1,89 @@
+package com.luxoft.average.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * ConcurrentMovingAverage class <br>
+ * A lock-free ring which many threads can feed at the same time: <br>
+ * - every value claims a slot through an atomic sequence <br>
+ * - the slot is swapped atomically and the difference goes into a striped {@link DoubleAdder} <br>
+ * So the sum always equals the sum of the ring's slots once writers are quiescent,
+ * and under contention it reflects some interleaving of the concurrent adds
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ConcurrentMovingAverage implements PeriodicMovingAverage {
+    private final int period;
+
+    private final AtomicLongArray values;
+    private final AtomicLong sequence;
+    private final DoubleAdder sum;
+
+    private ConcurrentMovingAverage(int period, double[] initialValues) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(String.format("Period should be more than 0, but %d passed", period));
+        }
+
+        if (period < initialValues.length) {
+            throw new IllegalArgumentException("Period should be greater than initial values count");
+        }
+
+        this.period = period;
+
+        this.values = new AtomicLongArray(period);
+        this.sequence = new AtomicLong();
+        this.sum = new DoubleAdder();
+
+        for (var value : initialValues) {
+            addValue(value);
+        }
+    }
+
+    public static ConcurrentMovingAverage of(int period) {
+        return new ConcurrentMovingAverage(period, new double[] {});
+    }
+
+    public static ConcurrentMovingAverage of(int period, double[] initialValues) {
+        return new ConcurrentMovingAverage(period, initialValues);
+    }
+
+    public double getSum() {
+        return sum.sum();
+    }
+
+    @Override
+    public void addValue(double value) {
+        var slot = (int) (sequence.getAndIncrement() % period);
+        var evicted = Double.longBitsToDouble(values.getAndSet(slot, Double.doubleToRawLongBits(value)));
+
+        sum.add(value - evicted);
+    }
+
+    @Override
+    public double getAverage() throws MovingAverageException {
+        if (!isReady()) {
+            throw new MovingAverageException("Unable to get average when values are not enough");
+        }
+
+        return sum.sum() / period;
+    }
+
+    @Override
+    public boolean isReady() {
+        return sequence.get() >= period;
+    }
+
+    @Override
+    public double getAverageOrNaN() {
+        return isReady() ? sum.sum() / period : Double.NaN;
+    }
+
+    @Override
+    public int getPeriod() {
+        return period;
+    }
+}
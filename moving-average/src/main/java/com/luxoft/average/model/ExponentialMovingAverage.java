@@ -0,0 +1,98 @@
+package com.luxoft.average.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * ExponentialMovingAverage class <br>
+ * Uses the 2 / (period + 1) smoothing factor and is seeded with a simple average of the first period values
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class ExponentialMovingAverage implements PeriodicMovingAverage {
+    private final int period;
+    private final double smoothingFactor;
+
+    private int count;
+    private double average;
+
+    private ExponentialMovingAverage(int period, double[] initialValues) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(String.format("Period should be more than 0, but %d passed", period));
+        }
+
+        if (period < initialValues.length) {
+            throw new IllegalArgumentException("Period should be greater than initial values count");
+        }
+
+        this.period = period;
+        this.smoothingFactor = 2.0 / (period + 1);
+
+        for (var value : initialValues) {
+            addValue(value);
+        }
+    }
+
+    public static ExponentialMovingAverage of(int period) {
+        return new ExponentialMovingAverage(period, new double[] {});
+    }
+
+    public static ExponentialMovingAverage of(int period, double[] initialValues) {
+        return new ExponentialMovingAverage(period, initialValues);
+    }
+
+    public double getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    @Override
+    public void addValue(double value) {
+        if (count < period) {
+            // while seeding, "average" keeps a running sum of the first values
+            average += value;
+            if (++count == period) {
+                average /= period;
+            }
+
+            return;
+        }
+
+        average += smoothingFactor * (value - average);
+    }
+
+    @Override
+    public double getAverage() throws MovingAverageException {
+        if (!isReady()) {
+            throw new MovingAverageException("Unable to get average when values are not enough");
+        }
+
+        return average;
+    }
+
+    @Override
+    public boolean isReady() {
+        return count == period;
+    }
+
+    @Override
+    public double getAverageOrNaN() {
+        return isReady() ? average : Double.NaN;
+    }
+
+    @Override
+    public int getPeriod() {
+        return period;
+    }
+
+    void writeState(ByteBuffer buffer) {
+        buffer.putInt(count).putInt(0).putDouble(average).putDouble(0.0);
+    }
+
+    void readState(ByteBuffer buffer) {
+        count = MovingAverageSnapshots.readCount(buffer, period);
+        buffer.getInt();
+        average = buffer.getDouble();
+        buffer.getDouble();
+    }
+}
@@ -1,5 +1,8 @@
 package com.luxoft.average.model;
 
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+
 /**
  * MovingAverage interface
  *
@@ -15,6 +18,75 @@ public interface MovingAverage {
      */
     void addValue(double value);
 
+    /**
+     * Adds a range of values for average calculation
+     *
+     * @param values an array of new values
+     * @param offset an index of the first value to add
+     * @param length a count of values to add
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     */
+    default void addValues(double[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+
+        var end = offset + length;
+        for (var i = offset; i < end; i++) {
+            addValue(values[i]);
+        }
+    }
+
+    /**
+     * Adds all remaining values of a buffer for average calculation <br>
+     * The buffer's position is moved to its limit
+     *
+     * @param values a buffer of new values
+     */
+    default void addValues(DoubleBuffer values) {
+        if (values.hasArray()) {
+            addValues(values.array(), values.arrayOffset() + values.position(), values.remaining());
+            values.position(values.limit());
+
+            return;
+        }
+
+        while (values.hasRemaining()) {
+            addValue(values.get());
+        }
+    }
+
+    /**
+     * Adds every value and writes an average after each of them <br>
+     * If values are not enough to get an average at some position, {@link Double#NaN} is written there
+     *
+     * @param values   an array of new values
+     * @param averages an array to write averages to (at least as long as values)
+     * @throws IllegalArgumentException if the averages array is shorter than the values one
+     */
+    default void averages(double[] values, double[] averages) {
+        averages(values, averages, values.length);
+    }
+
+    /**
+     * Adds the first length values and writes an average after each of them, so the same arrays
+     * can be reused for chunks of any length <br>
+     * If values are not enough to get an average at some position, {@link Double#NaN} is written there
+     *
+     * @param values   an array of new values
+     * @param averages an array to write averages to (at least length long)
+     * @param length   a count of values to add
+     * @throws IllegalArgumentException if the length is out of the bounds of either array
+     */
+    default void averages(double[] values, double[] averages, int length) {
+        if (length < 0 || length > values.length || length > averages.length) {
+            throw new IllegalArgumentException(String.format("Length %d is out of the values or averages bounds", length));
+        }
+
+        for (var i = 0; i < length; i++) {
+            addValue(values[i]);
+            averages[i] = getAverageOrNaN();
+        }
+    }
+
     /**
      * Gets an average
      *
@@ -24,9 +96,16 @@ public interface MovingAverage {
     double getAverage() throws MovingAverageException;
 
     /**
-     * Gets a calculation's period (e.g. 10 elements)
+     * Checks if values are enough to get an average
+     *
+     * @return true if an average can be got or false else
+     */
+    boolean isReady();
+
+    /**
+     * Gets an average without throwing, so it is cheap to poll not ready averages
      *
-     * @return a calculation's period
+     * @return an average or {@link Double#NaN} if values are not enough
      */
-    int getPeriod();
+    double getAverageOrNaN();
 }
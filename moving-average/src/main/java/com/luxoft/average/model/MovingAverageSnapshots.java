@@ -0,0 +1,203 @@
+package com.luxoft.average.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * MovingAverageSnapshots class <br>
+ * Writes and reads a state of a {@link MovingAverage} in a compact versioned little-endian layout: <br>
+ * - a header: magic (int), version (short), type (byte), reserved (byte), period (int) <br>
+ * - a state: count (int), head (int), 2 implementation specific doubles (e.g. a sum and a compensation) <br>
+ * - a raw ring of doubles as it is kept in memory (period values, none for the exponential average,
+ *   the oldest value first for the simple one) <br>
+ * Simple, ring buffer, compensated, weighted and exponential moving averages are supported <br>
+ * A snapshot should fit a byte buffer, so its size is limited by {@link Integer#MAX_VALUE}
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public final class MovingAverageSnapshots {
+    public static final short VERSION = 1;
+
+    static final int MAGIC = 0x4D415647;
+    static final int HEADER_SIZE = 12;
+    static final int STATE_SIZE = 24;
+
+    private static final byte RING_BUFFER = 1;
+    private static final byte COMPENSATED = 2;
+    private static final byte WEIGHTED = 3;
+    private static final byte EXPONENTIAL = 4;
+    private static final byte SIMPLE = 5;
+
+    private MovingAverageSnapshots() {
+    }
+
+    /**
+     * Gets a count of bytes a snapshot of a moving average takes
+     *
+     * @param movingAverage a moving average
+     * @return a snapshot size
+     * @throws IllegalArgumentException if the moving average implementation is not supported
+     *                                  or its snapshot does not fit a byte buffer
+     */
+    public static int sizeOf(MovingAverage movingAverage) {
+        var type = typeOf(movingAverage);
+        // every supported type is a periodic one
+        var ringLength = type == EXPONENTIAL ? 0L : ((PeriodicMovingAverage) movingAverage).getPeriod();
+
+        var size = HEADER_SIZE + STATE_SIZE + ringLength * Double.BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                String.format("Snapshot of %d bytes does not fit a byte buffer", size)
+            );
+        }
+
+        return (int) size;
+    }
+
+    /**
+     * Writes a snapshot of a moving average at the current buffer position <br>
+     * The buffer is switched to the little-endian order
+     *
+     * @param movingAverage a moving average
+     * @param buffer        a buffer with at least {@link #sizeOf(MovingAverage)} bytes remaining
+     * @throws IllegalArgumentException if the moving average implementation is not supported
+     */
+    public static void write(MovingAverage movingAverage, ByteBuffer buffer) {
+        var type = typeOf(movingAverage);
+
+        buffer.order(ByteOrder.LITTLE_ENDIAN)
+            .putInt(MAGIC)
+            .putShort(VERSION)
+            .put(type)
+            .put((byte) 0)
+            .putInt(((PeriodicMovingAverage) movingAverage).getPeriod());
+
+        switch (type) {
+            case RING_BUFFER:
+                ((RingBufferMovingAverage) movingAverage).writeState(buffer);
+                break;
+            case COMPENSATED:
+                ((CompensatedMovingAverage) movingAverage).writeState(buffer);
+                break;
+            case WEIGHTED:
+                ((WeightedMovingAverage) movingAverage).writeState(buffer);
+                break;
+            case SIMPLE:
+                ((SimpleMovingAverage) movingAverage).writeState(buffer);
+                break;
+            default:
+                ((ExponentialMovingAverage) movingAverage).writeState(buffer);
+        }
+    }
+
+    /**
+     * Reads a moving average from a snapshot at the current buffer position <br>
+     * The buffer is switched to the little-endian order
+     *
+     * @param buffer a buffer with a snapshot
+     * @return a restored moving average
+     * @throws IllegalArgumentException if the snapshot is broken or has an unknown version or type
+     */
+    public static MovingAverage read(ByteBuffer buffer) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Moving average snapshot has a wrong magic number");
+        }
+
+        var version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException(String.format("Unsupported moving average snapshot version %d", version));
+        }
+
+        var type = buffer.get();
+        buffer.get();
+        var period = buffer.getInt();
+
+        switch (type) {
+            case RING_BUFFER:
+                var ringBuffer = RingBufferMovingAverage.of(period);
+                ringBuffer.readState(buffer);
+
+                return ringBuffer;
+            case COMPENSATED:
+                var compensated = CompensatedMovingAverage.of(period);
+                compensated.readState(buffer);
+
+                return compensated;
+            case WEIGHTED:
+                var weighted = WeightedMovingAverage.of(period);
+                weighted.readState(buffer);
+
+                return weighted;
+            case EXPONENTIAL:
+                var exponential = ExponentialMovingAverage.of(period);
+                exponential.readState(buffer);
+
+                return exponential;
+            case SIMPLE:
+                var simple = SimpleMovingAverage.of(period);
+                simple.readState(buffer);
+
+                return simple;
+            default:
+                throw new IllegalArgumentException(String.format("Unknown moving average snapshot type %d", type));
+        }
+    }
+
+    static int readCount(ByteBuffer buffer, int period) {
+        var count = buffer.getInt();
+        if (count < 0 || count > period) {
+            throw new IllegalArgumentException(String.format("Snapshot values count %d is out of period %d", count, period));
+        }
+
+        return count;
+    }
+
+    static int readHead(ByteBuffer buffer, int period) {
+        var head = buffer.getInt();
+        if (head < 0 || head >= period) {
+            throw new IllegalArgumentException(String.format("Snapshot ring head %d is out of period %d", head, period));
+        }
+
+        return head;
+    }
+
+    static void putRing(ByteBuffer buffer, double[] ring) {
+        buffer.asDoubleBuffer().put(ring);
+        buffer.position(buffer.position() + ring.length * Double.BYTES);
+    }
+
+    static void getRing(ByteBuffer buffer, double[] ring) {
+        buffer.asDoubleBuffer().get(ring);
+        buffer.position(buffer.position() + ring.length * Double.BYTES);
+    }
+
+    private static byte typeOf(MovingAverage movingAverage) {
+        if (movingAverage instanceof RingBufferMovingAverage) {
+            return RING_BUFFER;
+        }
+
+        if (movingAverage instanceof CompensatedMovingAverage) {
+            return COMPENSATED;
+        }
+
+        if (movingAverage instanceof WeightedMovingAverage) {
+            return WEIGHTED;
+        }
+
+        if (movingAverage instanceof ExponentialMovingAverage) {
+            return EXPONENTIAL;
+        }
+
+        if (movingAverage instanceof SimpleMovingAverage) {
+            return SIMPLE;
+        }
+
+        throw new IllegalArgumentException(
+            String.format("Unable to snapshot the %s moving average", movingAverage.getClass().getSimpleName())
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.luxoft.average.model;
+
+/**
+ * PeriodicMovingAverage interface <br>
+ * A {@link MovingAverage} over a fixed count of the last values
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public interface PeriodicMovingAverage extends MovingAverage {
+    /**
+     * Gets a calculation's period (e.g. 10 elements)
+     *
+     * @return a calculation's period
+     */
+    int getPeriod();
+}
@@ -0,0 +1,177 @@
+package com.luxoft.average.model;
+
+import com.luxoft.average.bulk.BulkMovingAverages;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * RingBufferMovingAverage class <br>
+ * Keeps the window in a primitive ring, so adding a value allocates nothing
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class RingBufferMovingAverage implements PeriodicMovingAverage {
+    private final int period;
+
+    private final double[] values;
+    private int head;
+    private int count;
+    private double sum;
+
+    private RingBufferMovingAverage(int period, double[] initialValues) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(String.format("Period should be more than 0, but %d passed", period));
+        }
+
+        if (period < initialValues.length) {
+            throw new IllegalArgumentException("Period should be greater than initial values count");
+        }
+
+        this.period = period;
+
+        this.values = new double[period];
+        for (var value : initialValues) {
+            addValue(value);
+        }
+    }
+
+    public static RingBufferMovingAverage of(int period) {
+        return new RingBufferMovingAverage(period, new double[] {});
+    }
+
+    public static RingBufferMovingAverage of(int period, double[] initialValues) {
+        return new RingBufferMovingAverage(period, initialValues);
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    /**
+     * Re-sums the whole window to drop the error the running sum has accumulated
+     */
+    public void resum() {
+        sum = BulkMovingAverages.sum(values, 0, count);
+    }
+
+    @Override
+    public void addValue(double value) {
+        sum += value;
+
+        if (count < period) {
+            count++;
+        } else {
+            sum -= values[head];
+        }
+
+        values[head] = value;
+        if (++head == period) {
+            head = 0;
+        }
+    }
+
+    @Override
+    public void addValues(double[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+
+        var window = this.values;
+        var head = this.head;
+        var count = this.count;
+        var sum = this.sum;
+
+        var end = offset + length;
+        for (var i = offset; i < end; i++) {
+            var value = values[i];
+            sum += value;
+
+            if (count < period) {
+                count++;
+            } else {
+                sum -= window[head];
+            }
+
+            window[head] = value;
+            if (++head == period) {
+                head = 0;
+            }
+        }
+
+        this.head = head;
+        this.count = count;
+        this.sum = sum;
+    }
+
+    @Override
+    public void averages(double[] values, double[] averages, int length) {
+        if (length < 0 || length > values.length || length > averages.length) {
+            throw new IllegalArgumentException(String.format("Length %d is out of the values or averages bounds", length));
+        }
+
+        var window = this.values;
+        var head = this.head;
+        var count = this.count;
+        var sum = this.sum;
+
+        for (var i = 0; i < length; i++) {
+            var value = values[i];
+            sum += value;
+
+            if (count < period) {
+                count++;
+            } else {
+                sum -= window[head];
+            }
+
+            window[head] = value;
+            if (++head == period) {
+                head = 0;
+            }
+
+            averages[i] = count < period ? Double.NaN : sum / period;
+        }
+
+        this.head = head;
+        this.count = count;
+        this.sum = sum;
+    }
+
+    @Override
+    public double getAverage() throws MovingAverageException {
+        if (!isReady()) {
+            throw new MovingAverageException("Unable to get average when values are not enough");
+        }
+
+        return sum / period;
+    }
+
+    @Override
+    public boolean isReady() {
+        return count == period;
+    }
+
+    @Override
+    public double getAverageOrNaN() {
+        return isReady() ? sum / period : Double.NaN;
+    }
+
+    @Override
+    public int getPeriod() {
+        return period;
+    }
+
+    void writeState(ByteBuffer buffer) {
+        buffer.putInt(count).putInt(head).putDouble(sum).putDouble(0.0);
+        MovingAverageSnapshots.putRing(buffer, values);
+    }
+
+    void readState(ByteBuffer buffer) {
+        count = MovingAverageSnapshots.readCount(buffer, period);
+        head = MovingAverageSnapshots.readHead(buffer, period);
+        sum = buffer.getDouble();
+        buffer.getDouble();
+        MovingAverageSnapshots.getRing(buffer, values);
+    }
+}
@@ -0,0 +1,361 @@
+package com.luxoft.average.model;
+
+/**
+ * RollingStatistics class <br>
+ * Keeps the average, min, max, variance and approximate quantiles of the last period values over one shared window: <br>
+ * - min and max come from monotonic deques of window positions (amortized O(1)) <br>
+ * - the mean and the variance are updated with Welford's formulas for adding and removing a value (O(1)) <br>
+ * - quantiles come from a logarithmic bucket sketch with a bounded relative error (O(1) update)
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class RollingStatistics implements PeriodicMovingAverage {
+    private static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    private final int period;
+
+    private final double[] values;
+    private long added;
+
+    private final long[] minDeque;
+    private int minHead;
+    private int minSize;
+
+    private final long[] maxDeque;
+    private int maxHead;
+    private int maxSize;
+
+    private double mean;
+    private double squaredDeviationsSum;
+
+    private final QuantileSketch sketch;
+
+    private RollingStatistics(int period, double relativeAccuracy) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(String.format("Period should be more than 0, but %d passed", period));
+        }
+
+        this.period = period;
+
+        this.values = new double[period];
+        this.minDeque = new long[period];
+        this.maxDeque = new long[period];
+
+        this.sketch = new QuantileSketch(relativeAccuracy);
+    }
+
+    public static RollingStatistics of(int period) {
+        return new RollingStatistics(period, DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    public static RollingStatistics of(int period, double relativeAccuracy) {
+        return new RollingStatistics(period, relativeAccuracy);
+    }
+
+    @Override
+    public void addValue(double value) {
+        var count = (int) Math.min(added, period);
+        var slot = (int) (added % period);
+
+        if (count == period) {
+            var evicted = values[slot];
+            removeFromMoments(evicted, count);
+            sketch.remove(evicted);
+            count--;
+        }
+
+        values[slot] = value;
+        addToMoments(value, count);
+        sketch.add(value);
+
+        pushMin(value);
+        pushMax(value);
+
+        added++;
+    }
+
+    @Override
+    public double getAverage() throws MovingAverageException {
+        throwIfNotEnoughValues();
+        return mean;
+    }
+
+    @Override
+    public boolean isReady() {
+        return added >= period;
+    }
+
+    @Override
+    public double getAverageOrNaN() {
+        return isReady() ? mean : Double.NaN;
+    }
+
+    @Override
+    public int getPeriod() {
+        return period;
+    }
+
+    public double getMin() throws MovingAverageException {
+        throwIfNotEnoughValues();
+        return values[(int) (minDeque[minHead] % period)];
+    }
+
+    public double getMax() throws MovingAverageException {
+        throwIfNotEnoughValues();
+        return values[(int) (maxDeque[maxHead] % period)];
+    }
+
+    /**
+     * Gets a population variance of the window
+     *
+     * @return a variance
+     * @throws MovingAverageException if values count is less than period
+     */
+    public double getVariance() throws MovingAverageException {
+        throwIfNotEnoughValues();
+        return Math.max(squaredDeviationsSum / period, 0.0);
+    }
+
+    public double getStandardDeviation() throws MovingAverageException {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Gets an approximate quantile of the window
+     *
+     * @param quantile a quantile in the [0, 1] range (e.g. 0.99)
+     * @return a value with a relative error bounded by the sketch accuracy
+     * @throws MovingAverageException if values count is less than period
+     */
+    public double getQuantile(double quantile) throws MovingAverageException {
+        if (quantile < 0.0 || quantile > 1.0) {
+            throw new IllegalArgumentException(String.format("Quantile should be in [0, 1], but %f passed", quantile));
+        }
+
+        throwIfNotEnoughValues();
+
+        var quantileValue = sketch.quantile(quantile, period);
+
+        // the sketch cannot be more precise than the exact window bounds
+        return Math.min(Math.max(quantileValue, getMin()), getMax());
+    }
+
+    private void throwIfNotEnoughValues() throws MovingAverageException {
+        if (!isReady()) {
+            throw new MovingAverageException("Unable to get statistics when values are not enough");
+        }
+    }
+
+    private void addToMoments(double value, int countBefore) {
+        var delta = value - mean;
+        mean += delta / (countBefore + 1);
+        squaredDeviationsSum += delta * (value - mean);
+    }
+
+    private void removeFromMoments(double value, int countBefore) {
+        if (countBefore == 1) {
+            mean = 0.0;
+            squaredDeviationsSum = 0.0;
+
+            return;
+        }
+
+        var delta = value - mean;
+        mean -= delta / (countBefore - 1);
+        squaredDeviationsSum -= delta * (value - mean);
+    }
+
+    private void pushMin(double value) {
+        var expired = added - period;
+        if (minSize > 0 && minDeque[minHead] <= expired) {
+            minHead = next(minHead);
+            minSize--;
+        }
+
+        while (minSize > 0 && valueAt(minDeque[last(minHead, minSize)]) >= value) {
+            minSize--;
+        }
+
+        minDeque[(minHead + minSize) % period] = added;
+        minSize++;
+    }
+
+    private void pushMax(double value) {
+        var expired = added - period;
+        if (maxSize > 0 && maxDeque[maxHead] <= expired) {
+            maxHead = next(maxHead);
+            maxSize--;
+        }
+
+        while (maxSize > 0 && valueAt(maxDeque[last(maxHead, maxSize)]) <= value) {
+            maxSize--;
+        }
+
+        maxDeque[(maxHead + maxSize) % period] = added;
+        maxSize++;
+    }
+
+    private double valueAt(long sequence) {
+        return values[(int) (sequence % period)];
+    }
+
+    private int next(int index) {
+        return index + 1 == period ? 0 : index + 1;
+    }
+
+    private int last(int head, int size) {
+        return (head + size - 1) % period;
+    }
+
+    /**
+     * A sliding quantile sketch: values are counted in logarithmic buckets,
+     * so every bucket covers values within the relative accuracy of its representative
+     * and a value can be removed as cheaply as it was added
+     */
+    private static final class QuantileSketch {
+        private static final double MIN_INDEXABLE_VALUE = 1e-9;
+        private static final double MAX_INDEXABLE_VALUE = 1e15;
+
+        private final double gamma;
+        private final double logGamma;
+        private final int offset;
+
+        private final Buckets positiveCounts = new Buckets();
+        private final Buckets negativeCounts = new Buckets();
+        private long zeroCount;
+
+        private QuantileSketch(double relativeAccuracy) {
+            if (relativeAccuracy <= 0.0 || relativeAccuracy >= 1.0) {
+                throw new IllegalArgumentException(
+                    String.format("Relative accuracy should be in (0, 1), but %f passed", relativeAccuracy)
+                );
+            }
+
+            this.gamma = (1.0 + relativeAccuracy) / (1.0 - relativeAccuracy);
+            this.logGamma = Math.log(gamma);
+            this.offset = -rawIndex(MIN_INDEXABLE_VALUE);
+        }
+
+        void add(double value) {
+            update(value, 1);
+        }
+
+        void remove(double value) {
+            update(value, -1);
+        }
+
+        double quantile(double quantile, int count) {
+            var rank = (long) (quantile * (count - 1));
+
+            // negative values are ordered from the biggest magnitude to the smallest one
+            if (rank < negativeCounts.total) {
+                return -representative(negativeCounts.descendingIndexOf(rank));
+            }
+
+            rank -= negativeCounts.total;
+            if (rank < zeroCount) {
+                return 0.0;
+            }
+
+            return representative(positiveCounts.ascendingIndexOf(rank - zeroCount));
+        }
+
+        private void update(double value, int delta) {
+            if (value > MIN_INDEXABLE_VALUE) {
+                positiveCounts.update(index(value), delta);
+            } else if (value < -MIN_INDEXABLE_VALUE) {
+                negativeCounts.update(index(-value), delta);
+            } else {
+                zeroCount += delta;
+            }
+        }
+
+        private int index(double magnitude) {
+            var index = rawIndex(Math.min(magnitude, MAX_INDEXABLE_VALUE)) + offset;
+            return Math.max(index, 0);
+        }
+
+        private int rawIndex(double magnitude) {
+            return (int) Math.ceil(Math.log(magnitude) / logGamma);
+        }
+
+        private double representative(int index) {
+            return 2.0 * Math.pow(gamma, index - offset) / (gamma + 1.0);
+        }
+    }
+
+    /**
+     * Bucket counts of one sign: the array covers only the bucket indexes observed so far
+     * and at least doubles when a value falls outside of it, so a window of values with close magnitudes
+     * keeps a few buckets instead of the whole indexable range
+     */
+    private static final class Buckets {
+        private static final int INITIAL_LENGTH = 64;
+
+        private long[] counts = new long[0];
+        private int firstIndex;
+        private long total;
+
+        void update(int index, int delta) {
+            // a removed value was added before, so only an added one may need a wider array
+            if (delta > 0) {
+                cover(index);
+            }
+
+            counts[index - firstIndex] += delta;
+            total += delta;
+        }
+
+        /**
+         * Gets an index of the bucket holding a rank, counting from the smallest index
+         */
+        int ascendingIndexOf(long rank) {
+            for (var i = 0; i < counts.length; i++) {
+                rank -= counts[i];
+                if (rank < 0) {
+                    return firstIndex + i;
+                }
+            }
+
+            return firstIndex + counts.length - 1;
+        }
+
+        /**
+         * Gets an index of the bucket holding a rank, counting from the biggest index
+         */
+        int descendingIndexOf(long rank) {
+            for (var i = counts.length - 1; i >= 0; i--) {
+                rank -= counts[i];
+                if (rank < 0) {
+                    return firstIndex + i;
+                }
+            }
+
+            return firstIndex;
+        }
+
+        private void cover(int index) {
+            if (counts.length == 0) {
+                counts = new long[INITIAL_LENGTH];
+                firstIndex = index - INITIAL_LENGTH / 2;
+                return;
+            }
+
+            var lastIndex = firstIndex + counts.length - 1;
+            if (index >= firstIndex && index <= lastIndex) {
+                return;
+            }
+
+            var length = Math.max(2 * counts.length, Math.max(index, lastIndex) - Math.min(index, firstIndex) + 1);
+            var newFirstIndex = index < firstIndex ? lastIndex - length + 1 : firstIndex;
+
+            var newCounts = new long[length];
+            System.arraycopy(counts, 0, newCounts, firstIndex - newFirstIndex, counts.length);
+
+            counts = newCounts;
+            firstIndex = newFirstIndex;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.luxoft.average.model;
 
+import java.nio.ByteBuffer;
 import java.util.Deque;
 import java.util.LinkedList;
 
@@ -10,7 +11,7 @@ import java.util.LinkedList;
  * @version 1.0.0
  * @since   2021-08-12
  */
-public class SimpleMovingAverage implements MovingAverage {
+public class SimpleMovingAverage implements PeriodicMovingAverage {
     private final int period;
 
     private final Deque<Double> values;
@@ -61,15 +62,51 @@ public class SimpleMovingAverage implements MovingAverage {
 
     @Override
     public double getAverage() throws MovingAverageException {
-        if (values.size() < period) {
+        if (!isReady()) {
             throw new MovingAverageException("Unable to get average when values are not enough");
         }
 
         return sum / period;
     }
 
+    @Override
+    public boolean isReady() {
+        return values.size() == period;
+    }
+
+    @Override
+    public double getAverageOrNaN() {
+        return isReady() ? sum / period : Double.NaN;
+    }
+
     @Override
     public int getPeriod() {
         return period;
     }
+
+    void writeState(ByteBuffer buffer) {
+        buffer.putInt(values.size()).putInt(0).putDouble(sum).putDouble(0.0);
+
+        for (var value : values) {
+            buffer.putDouble(value);
+        }
+
+        for (var i = values.size(); i < period; i++) {
+            buffer.putDouble(0.0);
+        }
+    }
+
+    void readState(ByteBuffer buffer) {
+        var count = MovingAverageSnapshots.readCount(buffer, period);
+        buffer.getInt();
+        sum = buffer.getDouble();
+        buffer.getDouble();
+
+        values.clear();
+        for (var i = 0; i < count; i++) {
+            values.addLast(buffer.getDouble());
+        }
+
+        buffer.position(buffer.position() + (period - count) * Double.BYTES);
+    }
 }
@@ -0,0 +1,158 @@
+package com.luxoft.average.model;
+
+import com.luxoft.average.time.CurrentTimeDefiner;
+import com.luxoft.average.time.CurrentTimeDefinerImpl;
+
+import java.time.Duration;
+
+/**
+ * TimeWindowMovingAverage class <br>
+ * Averages values added during the last window of time instead of the last N values <br>
+ * Timestamps and values are kept in primitive rings, expired entries are evicted on every add or read,
+ * so each value is evicted exactly once and an add is amortized O(1) even under bursts <br>
+ * Time is measured in milliseconds (see {@link CurrentTimeDefiner}), so a window is at least 1 ms long.
+ * The window has no fixed count of values, so it is not a {@link PeriodicMovingAverage}, see {@link #getSize()}
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class TimeWindowMovingAverage implements MovingAverage {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private final long window;
+    private final CurrentTimeDefiner timeDefiner;
+
+    private long[] timestamps;
+    private double[] values;
+    private int head;
+    private int size;
+    private double sum;
+
+    private TimeWindowMovingAverage(Duration window, CurrentTimeDefiner timeDefiner, int initialCapacity) {
+        if (window.isNegative() || window.toMillis() == 0) {
+            throw new IllegalArgumentException(String.format("Window should be at least 1 ms, but %s passed", window));
+        }
+
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Initial capacity should be more than 0, but %d passed", initialCapacity)
+            );
+        }
+
+        this.window = window.toMillis();
+        this.timeDefiner = timeDefiner;
+
+        this.timestamps = new long[initialCapacity];
+        this.values = new double[initialCapacity];
+    }
+
+    public static TimeWindowMovingAverage of(Duration window) {
+        return new TimeWindowMovingAverage(window, new CurrentTimeDefinerImpl(), DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public static TimeWindowMovingAverage of(Duration window, CurrentTimeDefiner timeDefiner) {
+        return new TimeWindowMovingAverage(window, timeDefiner, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public static TimeWindowMovingAverage of(Duration window, CurrentTimeDefiner timeDefiner, int initialCapacity) {
+        return new TimeWindowMovingAverage(window, timeDefiner, initialCapacity);
+    }
+
+    public Duration getWindow() {
+        return Duration.ofMillis(window);
+    }
+
+    public double getSum() {
+        evictExpired(timeDefiner.time());
+        return sum;
+    }
+
+    @Override
+    public void addValue(double value) {
+        var now = timeDefiner.time();
+        evictExpired(now);
+
+        if (size == values.length) {
+            grow();
+        }
+
+        var tail = head + size;
+        if (tail >= values.length) {
+            tail -= values.length;
+        }
+
+        timestamps[tail] = now;
+        values[tail] = value;
+        size++;
+        sum += value;
+    }
+
+    @Override
+    public double getAverage() throws MovingAverageException {
+        if (!isReady()) {
+            throw new MovingAverageException("Unable to get average when there are no values in the window");
+        }
+
+        return sum / size;
+    }
+
+    @Override
+    public boolean isReady() {
+        evictExpired(timeDefiner.time());
+        return size > 0;
+    }
+
+    @Override
+    public double getAverageOrNaN() {
+        return isReady() ? sum / size : Double.NaN;
+    }
+
+    /**
+     * Gets a count of values currently kept in the window
+     *
+     * @return a count of values in the window
+     */
+    public int getSize() {
+        evictExpired(timeDefiner.time());
+        return size;
+    }
+
+    private void evictExpired(long now) {
+        var threshold = now - window;
+
+        while (size > 0 && timestamps[head] <= threshold) {
+            sum -= values[head];
+            size--;
+
+            if (++head == values.length) {
+                head = 0;
+            }
+        }
+
+        if (size == 0) {
+            // drop any rounding error left by the evicted values
+            sum = 0.0;
+        }
+    }
+
+    private void grow() {
+        var capacity = values.length << 1;
+        if (capacity <= 0) {
+            throw new IllegalStateException("Time window holds too many values");
+        }
+
+        var newTimestamps = new long[capacity];
+        var newValues = new double[capacity];
+
+        var firstPart = Math.min(size, values.length - head);
+        System.arraycopy(timestamps, head, newTimestamps, 0, firstPart);
+        System.arraycopy(values, head, newValues, 0, firstPart);
+        System.arraycopy(timestamps, 0, newTimestamps, firstPart, size - firstPart);
+        System.arraycopy(values, 0, newValues, firstPart, size - firstPart);
+
+        timestamps = newTimestamps;
+        values = newValues;
+        head = 0;
+    }
+}
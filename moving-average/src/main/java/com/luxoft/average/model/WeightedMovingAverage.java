@@ -0,0 +1,109 @@
+package com.luxoft.average.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * WeightedMovingAverage class <br>
+ * Linearly weighted: the newest value has the period weight, the oldest one has the 1 weight <br>
+ * The weighted sum is kept incrementally, so adding a value does not rescan the window
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class WeightedMovingAverage implements PeriodicMovingAverage {
+    private final int period;
+    private final double weightsSum;
+
+    private final double[] values;
+    private int head;
+    private int count;
+
+    private double sum;
+    private double weightedSum;
+
+    private WeightedMovingAverage(int period, double[] initialValues) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(String.format("Period should be more than 0, but %d passed", period));
+        }
+
+        if (period < initialValues.length) {
+            throw new IllegalArgumentException("Period should be greater than initial values count");
+        }
+
+        this.period = period;
+        this.weightsSum = period * (period + 1.0) / 2.0;
+
+        this.values = new double[period];
+        for (var value : initialValues) {
+            addValue(value);
+        }
+    }
+
+    public static WeightedMovingAverage of(int period) {
+        return new WeightedMovingAverage(period, new double[] {});
+    }
+
+    public static WeightedMovingAverage of(int period, double[] initialValues) {
+        return new WeightedMovingAverage(period, initialValues);
+    }
+
+    public double getWeightedSum() {
+        return weightedSum;
+    }
+
+    @Override
+    public void addValue(double value) {
+        if (count < period) {
+            count++;
+            weightedSum += count * value;
+            sum += value;
+        } else {
+            // every kept value loses one weight step, the evicted one loses its last step
+            weightedSum += period * value - sum;
+            sum += value - values[head];
+        }
+
+        values[head] = value;
+        if (++head == period) {
+            head = 0;
+        }
+    }
+
+    @Override
+    public double getAverage() throws MovingAverageException {
+        if (!isReady()) {
+            throw new MovingAverageException("Unable to get average when values are not enough");
+        }
+
+        return weightedSum / weightsSum;
+    }
+
+    @Override
+    public boolean isReady() {
+        return count == period;
+    }
+
+    @Override
+    public double getAverageOrNaN() {
+        return isReady() ? weightedSum / weightsSum : Double.NaN;
+    }
+
+    @Override
+    public int getPeriod() {
+        return period;
+    }
+
+    void writeState(ByteBuffer buffer) {
+        buffer.putInt(count).putInt(head).putDouble(sum).putDouble(weightedSum);
+        MovingAverageSnapshots.putRing(buffer, values);
+    }
+
+    void readState(ByteBuffer buffer) {
+        count = MovingAverageSnapshots.readCount(buffer, period);
+        head = MovingAverageSnapshots.readHead(buffer, period);
+        sum = buffer.getDouble();
+        weightedSum = buffer.getDouble();
+        MovingAverageSnapshots.getRing(buffer, values);
+    }
+}
@@ -0,0 +1,17 @@
+package com.luxoft.average.time;
+
+/**
+ * CurrentTimeDefiner interface
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public interface CurrentTimeDefiner {
+    /**
+     * Gets the current time
+     *
+     * @return the current time in milliseconds
+     */
+    long time();
+}
@@ -0,0 +1,15 @@
+package com.luxoft.average.time;
+
+/**
+ * CurrentTimeDefinerImpl class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+public class CurrentTimeDefinerImpl implements CurrentTimeDefiner {
+    @Override
+    public long time() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,122 @@
+package com.luxoft.average;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MovingAverageRegistryTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@DisplayName("MovingAverageRegistryTest class")
+class MovingAverageRegistryTest {
+    @DisplayName("Should throw an exception when memory budget is not enough for one series")
+    @Test
+    void shouldThrowExceptionWhenMemoryBudgetIsNotEnoughForOneSeries() throws Exception {
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> MovingAverageRegistry.of(10, 16));
+    }
+
+    @DisplayName("Should derive a capacity from the memory budget")
+    @Test
+    void shouldDeriveCapacityFromMemoryBudget() throws Exception {
+        // when
+        var registry = MovingAverageRegistry.of(10, 5 * MovingAverageRegistry.bytesPerSeries(10));
+
+        // then
+        assertThat(registry.getCapacity())
+            .isEqualTo(5);
+    }
+
+    @DisplayName("Should keep an independent average for every key")
+    @Test
+    void shouldKeepIndependentAverageForEveryKey() throws Exception {
+        // given
+        var registry = MovingAverageRegistry.of(2, 1024);
+
+        // when
+        registry.add(1L, 2.0);
+        registry.add(2L, 10.0);
+        registry.add(1L, 4.0);
+        registry.add(2L, 20.0);
+        registry.add(1L, 6.0);
+
+        // then
+        assertThat(registry.average(1L))
+            .isEqualTo(5.0);
+
+        assertThat(registry.average(2L))
+            .isEqualTo(15.0);
+    }
+
+    @DisplayName("Should return NaN when key is unknown or values are not enough")
+    @Test
+    void shouldReturnNaNWhenKeyIsUnknownOrValuesAreNotEnough() throws Exception {
+        // given
+        var registry = MovingAverageRegistry.of(2, 1024);
+        registry.add(1L, 2.0);
+
+        // when / then
+        assertThat(registry.average(1L))
+            .isNaN();
+
+        assertThat(registry.average(2L))
+            .isNaN();
+    }
+
+    @DisplayName("Should evict an idle series when the budget is exhausted")
+    @Test
+    void shouldEvictIdleSeriesWhenBudgetIsExhausted() throws Exception {
+        // given
+        var registry = MovingAverageRegistry.of(1, 2 * MovingAverageRegistry.bytesPerSeries(1));
+
+        registry.add(1L, 1.0);
+        registry.add(2L, 2.0);
+        registry.add(3L, 3.0);
+
+        // when
+        registry.add(3L, 4.0);
+        registry.add(4L, 5.0);
+
+        // then
+        assertThat(registry.size())
+            .isEqualTo(2);
+
+        assertThat(registry.contains(3L))
+            .isTrue();
+
+        assertThat(registry.average(4L))
+            .isEqualTo(5.0);
+    }
+
+    @DisplayName("Should remove a series and keep the others reachable")
+    @Test
+    void shouldRemoveSeriesAndKeepOthersReachable() throws Exception {
+        // given
+        var registry = MovingAverageRegistry.of(1, 1024);
+        for (var key = 0L; key < 10L; key++) {
+            registry.add(key, key);
+        }
+
+        // when
+        var removed = registry.remove(3L);
+
+        // then
+        assertThat(removed)
+            .isTrue();
+
+        assertThat(registry.contains(3L))
+            .isFalse();
+
+        for (var key = 0L; key < 10L; key++) {
+            if (key != 3L) {
+                assertThat(registry.average(key)).isEqualTo(key);
+            }
+        }
+    }
+}
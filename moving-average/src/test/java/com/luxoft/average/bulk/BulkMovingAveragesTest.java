@@ -0,0 +1,99 @@
+package com.luxoft.average.bulk;
+
+import com.luxoft.average.model.RingBufferMovingAverage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BulkMovingAveragesTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@DisplayName("BulkMovingAveragesTest class")
+class BulkMovingAveragesTest {
+    @DisplayName("Should sum a range including the tail that does not fill all accumulators")
+    @Test
+    void shouldSumRangeIncludingTail() throws Exception {
+        // given
+        var values = new double[] {100.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 100.0};
+
+        // when
+        var sum = BulkMovingAverages.sum(values, 1, 8);
+
+        // then
+        assertThat(sum)
+            .isEqualTo(28.0);
+    }
+
+    @DisplayName("Should throw an exception when a range is out of bounds")
+    @Test
+    void shouldThrowExceptionWhenRangeIsOutOfBounds() throws Exception {
+        // when / then
+        assertThrows(IndexOutOfBoundsException.class, () -> BulkMovingAverages.sum(new double[2], 1, 3));
+    }
+
+    @DisplayName("Should write NaN for every position when period is bigger than values count")
+    @Test
+    void shouldWriteNaNWhenPeriodIsBiggerThanValuesCount() throws Exception {
+        // given
+        var averages = new double[3];
+
+        // when
+        BulkMovingAverages.rollingAverages(new double[] {1.0, 2.0, 3.0}, 5, averages);
+
+        // then
+        assertThat(averages)
+            .containsOnly(Double.NaN);
+    }
+
+    @DisplayName("Should match the ring buffer moving average across several blocks")
+    @Test
+    void shouldMatchRingBufferMovingAverageAcrossSeveralBlocks() throws Exception {
+        // given
+        var period = 1000;
+        var values = new double[3 * BulkMovingAverages.BLOCK_SIZE + 17];
+
+        var random = new Random(42);
+        for (var i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * 1000.0;
+        }
+
+        var expectedAverages = new double[values.length];
+        RingBufferMovingAverage.of(period).averages(values, expectedAverages);
+
+        var averages = new double[values.length];
+
+        // when
+        BulkMovingAverages.rollingAverages(values, period, averages);
+
+        // then
+        for (var i = 0; i < period - 1; i++) {
+            assertThat(averages[i]).isNaN();
+        }
+
+        for (var i = period - 1; i < values.length; i++) {
+            assertThat(averages[i]).isCloseTo(expectedAverages[i], within(1e-9));
+        }
+    }
+
+    @DisplayName("Should count blocks without overflow when values count is close to Integer.MAX_VALUE")
+    @Test
+    void shouldCountBlocksWithoutOverflowWhenValuesCountIsHuge() {
+        // when
+        var blocksCount = BulkMovingAverages.blocksCount(Integer.MAX_VALUE, 1);
+
+        // then
+        assertThat(blocksCount).isEqualTo(Integer.MAX_VALUE / BulkMovingAverages.BLOCK_SIZE + 1);
+        assertThat(BulkMovingAverages.blocksCount(BulkMovingAverages.BLOCK_SIZE, 1)).isEqualTo(1);
+        assertThat(BulkMovingAverages.blocksCount(BulkMovingAverages.BLOCK_SIZE + 1, 1)).isEqualTo(2);
+        assertThat(BulkMovingAverages.blocksCount(3, 4)).isZero();
+    }
+}
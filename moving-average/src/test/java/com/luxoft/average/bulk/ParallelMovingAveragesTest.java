@@ -0,0 +1,89 @@
+package com.luxoft.average.bulk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ParallelMovingAveragesTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@DisplayName("ParallelMovingAveragesTest class")
+class ParallelMovingAveragesTest {
+    @DisplayName("Should be bit-for-bit equal to the sequential compensated computation")
+    @Test
+    void shouldBeEqualToSequentialCompensatedComputation() throws Exception {
+        // given
+        var period = 777;
+        var values = randomValues(20 * BulkMovingAverages.BLOCK_SIZE + 5);
+
+        var expectedAverages = new double[values.length];
+        BulkMovingAverages.rollingAverages(values, period, expectedAverages, true);
+
+        var averages = new double[values.length];
+        var pool = new ForkJoinPool(4);
+
+        // when
+        try {
+            ParallelMovingAverages.rollingAverages(values, period, averages, true, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        // then
+        assertThat(averages)
+            .isEqualTo(expectedAverages);
+    }
+
+    @DisplayName("Should be equal to the sequential computation on the common pool")
+    @Test
+    void shouldBeEqualToSequentialComputationOnCommonPool() throws Exception {
+        // given
+        var period = 3 * BulkMovingAverages.BLOCK_SIZE;
+        var values = randomValues(10 * BulkMovingAverages.BLOCK_SIZE);
+
+        var expectedAverages = new double[values.length];
+        BulkMovingAverages.rollingAverages(values, period, expectedAverages, false);
+
+        var averages = new double[values.length];
+
+        // when
+        ParallelMovingAverages.rollingAverages(values, period, averages, false);
+
+        // then
+        assertThat(averages)
+            .isEqualTo(expectedAverages);
+    }
+
+    @DisplayName("Should write only NaN when values are not enough for one window")
+    @Test
+    void shouldWriteOnlyNaNWhenValuesAreNotEnoughForOneWindow() throws Exception {
+        // given
+        var averages = new double[2];
+
+        // when
+        ParallelMovingAverages.rollingAverages(new double[] {1.0, 2.0}, 3, averages, true);
+
+        // then
+        assertThat(averages)
+            .containsOnly(Double.NaN);
+    }
+
+    private static double[] randomValues(int count) {
+        var random = new Random(42);
+        var values = new double[count];
+
+        for (var i = 0; i < count; i++) {
+            values[i] = random.nextDouble() * 1000.0;
+        }
+
+        return values;
+    }
+}
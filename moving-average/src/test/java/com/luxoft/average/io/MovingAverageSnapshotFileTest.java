@@ -0,0 +1,129 @@
+package com.luxoft.average.io;
+
+import com.luxoft.average.model.CompensatedMovingAverage;
+import com.luxoft.average.model.MovingAverage;
+import com.luxoft.average.model.RingBufferMovingAverage;
+import com.luxoft.average.model.SimpleMovingAverage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MovingAverageSnapshotFileTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@DisplayName("MovingAverageSnapshotFileTest class")
+class MovingAverageSnapshotFileTest {
+    @TempDir
+    Path directory;
+
+    @DisplayName("Should save many moving averages and restore any of them lazily")
+    @Test
+    void shouldSaveManyMovingAveragesAndRestoreAnyOfThemLazily() throws Exception {
+        // given
+        var path = directory.resolve("averages.snapshot");
+
+        List<MovingAverage> movingAverages = new ArrayList<>();
+        for (var i = 0; i < 1000; i++) {
+            var movingAverage = i % 2 == 0
+                ? RingBufferMovingAverage.of(i % 7 + 1)
+                : CompensatedMovingAverage.of(i % 7 + 1);
+
+            for (var j = 0; j <= i % 10; j++) {
+                movingAverage.addValue(i + j);
+            }
+
+            movingAverages.add(movingAverage);
+        }
+
+        // when
+        MovingAverageSnapshotFile.save(movingAverages, path);
+
+        // then
+        try (var snapshotFile = MovingAverageSnapshotFile.open(path)) {
+            assertThat(snapshotFile.size())
+                .isEqualTo(movingAverages.size());
+
+            for (var i : new int[] {999, 0, 500, 7}) {
+                var restored = snapshotFile.restore(i);
+
+                assertThat(restored)
+                    .isInstanceOf(movingAverages.get(i).getClass());
+
+                assertThat(restored.getAverageOrNaN())
+                    .isEqualTo(movingAverages.get(i).getAverageOrNaN());
+            }
+        }
+    }
+
+    @DisplayName("Should throw an exception when a file is not a snapshot file")
+    @Test
+    void shouldThrowExceptionWhenFileIsNotSnapshotFile() throws Exception {
+        // given
+        var path = directory.resolve("broken.snapshot");
+        Files.write(path, new byte[32]);
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> MovingAverageSnapshotFile.open(path));
+    }
+
+    @DisplayName("Should throw an exception when a record is bigger than a segment tail")
+    @Test
+    void shouldThrowExceptionWhenRecordIsTooBig() throws Exception {
+        // given
+        var path = directory.resolve("averages.snapshot");
+
+        // a simple moving average does not allocate its window up front
+        var movingAverage = SimpleMovingAverage.of(MovingAverageSnapshotFile.MAX_RECORD_SIZE / Double.BYTES);
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> MovingAverageSnapshotFile.save(List.of(movingAverage), path));
+    }
+
+    @DisplayName("Should throw an exception when there are too many moving averages to save")
+    @Test
+    void shouldThrowExceptionWhenTooManyMovingAveragesToSave() throws Exception {
+        // given
+        var path = directory.resolve("averages.snapshot");
+        var movingAverages = Collections.nCopies(MovingAverageSnapshotFile.MAX_COUNT + 1, SimpleMovingAverage.of(4));
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> MovingAverageSnapshotFile.save(movingAverages, path));
+    }
+
+    @DisplayName("Should throw an exception when a file header has too many records")
+    @Test
+    void shouldThrowExceptionWhenFileHeaderHasTooManyRecords() throws Exception {
+        // given
+        var path = directory.resolve("averages.snapshot");
+        MovingAverageSnapshotFile.save(List.of(), path);
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            var count = ByteBuffer.allocate(Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(0, MovingAverageSnapshotFile.MAX_COUNT + 1);
+
+            // a count follows a magic number, a version and a reserved short
+            channel.write(count, 8);
+        }
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> MovingAverageSnapshotFile.open(path));
+    }
+}
@@ -0,0 +1,77 @@
+package com.luxoft.average.io;
+
+import com.luxoft.average.model.RingBufferMovingAverage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TickFileReplayerTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@DisplayName("TickFileReplayerTest class")
+class TickFileReplayerTest {
+    @TempDir
+    Path directory;
+
+    @DisplayName("Should write a rolling average for every tick across chunks and mappings")
+    @Test
+    void shouldWriteRollingAverageForEveryTick() throws Exception {
+        // given
+        var input = directory.resolve("ticks.bin");
+        var output = directory.resolve("averages.bin");
+        writeDoubles(input, new double[] {1.0, 3.0, 5.0, 7.0, 9.0, 11.0, 13.0});
+
+        // 2 values per chunk, 4 values per mapping, so both chunk and mapping tails are replayed
+        var replayer = TickFileReplayer.of(RingBufferMovingAverage.of(2), 2, 4 * Double.BYTES);
+
+        // when
+        var ticksCount = replayer.replay(input, output);
+
+        // then
+        assertThat(ticksCount)
+            .isEqualTo(7);
+
+        assertThat(readDoubles(output))
+            .containsExactly(Double.NaN, 2.0, 4.0, 6.0, 8.0, 10.0, 12.0);
+    }
+
+    @DisplayName("Should throw an exception when the input file is not made of whole doubles")
+    @Test
+    void shouldThrowExceptionWhenInputFileIsNotMadeOfWholeDoubles() throws Exception {
+        // given
+        var input = directory.resolve("broken.bin");
+        Files.write(input, new byte[] {1, 2, 3});
+
+        var replayer = TickFileReplayer.of(RingBufferMovingAverage.of(2));
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> replayer.replay(input, directory.resolve("out.bin")));
+    }
+
+    private static void writeDoubles(Path path, double[] values) throws Exception {
+        var buffer = ByteBuffer.allocate(values.length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asDoubleBuffer().put(values);
+
+        Files.write(path, buffer.array());
+    }
+
+    private static double[] readDoubles(Path path) throws Exception {
+        var buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        var values = new double[buffer.remaining()];
+        buffer.get(values);
+
+        return values;
+    }
+}
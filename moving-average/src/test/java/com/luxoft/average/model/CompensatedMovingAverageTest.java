@@ -0,0 +1,120 @@
+package com.luxoft.average.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompensatedMovingAverageTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@DisplayName("CompensatedMovingAverageTest class")
+class CompensatedMovingAverageTest {
+    @DisplayName("Should be initialized with some sum when initial data was passed")
+    @Test
+    void shouldBeInitializedWithSumWithInitialData() throws Exception {
+        // given
+        var initialData = new double[] {2.0, 3.0, 5.0};
+        var expectedSum = 10.0;
+
+        // when
+        var compensatedMovingAverage = CompensatedMovingAverage.of(5, initialData);
+
+        // then
+        assertThat(compensatedMovingAverage.getSum())
+            .isEqualTo(expectedSum);
+    }
+
+    @DisplayName("Should throw an exception when period is less than passed data count")
+    @Test
+    void shouldThrowExceptionWhenPeriodLessThanPassedDataCount() throws Exception {
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> CompensatedMovingAverage.of(2, new double[] {2.0, 3.0, 5.0}));
+    }
+
+    @DisplayName("Should throw an exception when zero period was passed")
+    @Test
+    void shouldThrowExceptionWhenZeroPeriodWasPassed() throws Exception {
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> CompensatedMovingAverage.of(0));
+    }
+
+    @DisplayName("Should add a new value to sum and sub an old")
+    @Test
+    void shouldAddNewValueToSumAndSubOld() throws Exception {
+        // given
+        var initialData = new double[] {2.0, 3.0, 5.0, 6.0, 7.0};
+        var compensatedMovingAverage = CompensatedMovingAverage.of(5, initialData);
+        var expectedSumAfterAddingValues = 29.0;
+
+        // when
+        compensatedMovingAverage.addValue(8.0);
+
+        // then
+        assertThat(compensatedMovingAverage.getSum())
+            .isEqualTo(expectedSumAfterAddingValues);
+    }
+
+    @DisplayName("Should not lose small values absorbed by a huge evicted one")
+    @Test
+    void shouldNotLoseSmallValuesAbsorbedByHugeEvictedOne() throws Exception {
+        // given
+        var compensatedMovingAverage = CompensatedMovingAverage.of(3, new double[] {1e17, 1.0, 1.0});
+        var expectedAverage = 1.0;
+
+        // when
+        compensatedMovingAverage.addValue(1.0);
+
+        // then
+        assertThat(compensatedMovingAverage.getAverage())
+            .isEqualTo(expectedAverage);
+    }
+
+    @DisplayName("Should write the same averages in bulk as value by value for a part of the arrays")
+    @Test
+    void shouldWriteSameAveragesInBulkAsValueByValue() throws Exception {
+        // given
+        var values = new double[] {1e17, 1.0, 1.0, 1.0, 2.0, 3.0, -1e17, 4.0, 99.0};
+        var length = 8;
+
+        var bulkMovingAverage = CompensatedMovingAverage.of(3, new double[] {5.0});
+        var singleMovingAverage = CompensatedMovingAverage.of(3, new double[] {5.0});
+
+        var expectedAverages = new double[length];
+        for (var i = 0; i < length; i++) {
+            singleMovingAverage.addValue(values[i]);
+            expectedAverages[i] = singleMovingAverage.getAverageOrNaN();
+        }
+
+        var averages = new double[values.length];
+        averages[length] = -1.0;
+
+        // when
+        bulkMovingAverage.averages(values, averages, length);
+
+        // then
+        assertThat(averages)
+            .containsExactly(
+                expectedAverages[0], expectedAverages[1], expectedAverages[2], expectedAverages[3],
+                expectedAverages[4], expectedAverages[5], expectedAverages[6], expectedAverages[7], -1.0
+            );
+
+        assertThat(bulkMovingAverage.getSum())
+            .isEqualTo(singleMovingAverage.getSum());
+    }
+
+    @DisplayName("Should throw an exception when calculate average with not enough values count")
+    @Test
+    void shouldThrowExceptionWhenCalculateAverageWithNotEnoughValuesCount() throws Exception {
+        // given
+        var compensatedMovingAverage = CompensatedMovingAverage.of(5, new double[] {2.0, 3.0, 5.0});
+
+        // when / then
+        assertThrows(MovingAverageException.class, compensatedMovingAverage::getAverage);
+    }
+}
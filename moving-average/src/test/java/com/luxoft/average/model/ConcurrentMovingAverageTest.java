@@ -0,0 +1,97 @@
+package com.luxoft.average.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConcurrentMovingAverageTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@DisplayName("ConcurrentMovingAverageTest class")
+class ConcurrentMovingAverageTest {
+    @DisplayName("Should throw an exception when zero period was passed")
+    @Test
+    void shouldThrowExceptionWhenZeroPeriodWasPassed() throws Exception {
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> ConcurrentMovingAverage.of(0));
+    }
+
+    @DisplayName("Should add a new value to sum and sub an old")
+    @Test
+    void shouldAddNewValueToSumAndSubOld() throws Exception {
+        // given
+        var initialData = new double[] {2.0, 3.0, 5.0, 6.0, 7.0};
+        var concurrentMovingAverage = ConcurrentMovingAverage.of(5, initialData);
+        var expectedSumAfterAddingValues = 29.0;
+
+        // when
+        concurrentMovingAverage.addValue(8.0);
+
+        // then
+        assertThat(concurrentMovingAverage.getSum())
+            .isEqualTo(expectedSumAfterAddingValues);
+    }
+
+    @DisplayName("Should throw an exception when calculate average with not enough values count")
+    @Test
+    void shouldThrowExceptionWhenCalculateAverageWithNotEnoughValuesCount() throws Exception {
+        // given
+        var concurrentMovingAverage = ConcurrentMovingAverage.of(5, new double[] {2.0, 3.0, 5.0});
+
+        // when / then
+        assertThrows(MovingAverageException.class, concurrentMovingAverage::getAverage);
+    }
+
+    @DisplayName("Should not lose values when many threads add them")
+    @Test
+    void shouldNotLoseValuesWhenManyThreadsAddThem() throws Exception {
+        // given
+        var threadsCount = 8;
+        var valuesPerThread = 100_000;
+        var period = 1000;
+
+        var concurrentMovingAverage = ConcurrentMovingAverage.of(period);
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+
+        for (var i = 0; i < threadsCount; i++) {
+            var thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                for (var j = 0; j < valuesPerThread; j++) {
+                    concurrentMovingAverage.addValue(2.0);
+                }
+            });
+
+            thread.start();
+            threads.add(thread);
+        }
+
+        // when
+        start.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(concurrentMovingAverage.getSum())
+            .isEqualTo(2.0 * period);
+
+        assertThat(concurrentMovingAverage.getAverage())
+            .isEqualTo(2.0);
+    }
+}
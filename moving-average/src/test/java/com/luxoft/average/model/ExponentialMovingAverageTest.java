@@ -0,0 +1,75 @@
+package com.luxoft.average.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExponentialMovingAverageTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@DisplayName("ExponentialMovingAverageTest class")
+class ExponentialMovingAverageTest {
+    @DisplayName("Should throw an exception when zero period was passed")
+    @Test
+    void shouldThrowExceptionWhenZeroPeriodWasPassed() throws Exception {
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> ExponentialMovingAverage.of(0));
+    }
+
+    @DisplayName("Should use 2 / (period + 1) as a smoothing factor")
+    @Test
+    void shouldUsePeriodBasedSmoothingFactor() throws Exception {
+        // when
+        var exponentialMovingAverage = ExponentialMovingAverage.of(3);
+
+        // then
+        assertThat(exponentialMovingAverage.getSmoothingFactor())
+            .isEqualTo(0.5);
+    }
+
+    @DisplayName("Should throw an exception when calculate average with not enough values count")
+    @Test
+    void shouldThrowExceptionWhenCalculateAverageWithNotEnoughValuesCount() throws Exception {
+        // given
+        var exponentialMovingAverage = ExponentialMovingAverage.of(3, new double[] {2.0, 4.0});
+
+        // when / then
+        assertThrows(MovingAverageException.class, exponentialMovingAverage::getAverage);
+    }
+
+    @DisplayName("Should be seeded with a simple average of the first period values")
+    @Test
+    void shouldBeSeededWithSimpleAverage() throws Exception {
+        // given
+        var exponentialMovingAverage = ExponentialMovingAverage.of(3, new double[] {2.0, 4.0, 6.0});
+        var expectedAverage = 4.0;
+
+        // when
+        var average = exponentialMovingAverage.getAverage();
+
+        // then
+        assertThat(average)
+            .isEqualTo(expectedAverage);
+    }
+
+    @DisplayName("Should smooth a new value into the average")
+    @Test
+    void shouldSmoothNewValueIntoAverage() throws Exception {
+        // given
+        var exponentialMovingAverage = ExponentialMovingAverage.of(3, new double[] {2.0, 4.0, 6.0});
+        var expectedAverage = 6.0;
+
+        // when
+        exponentialMovingAverage.addValue(8.0);
+
+        // then
+        assertThat(exponentialMovingAverage.getAverage())
+            .isEqualTo(expectedAverage);
+    }
+}
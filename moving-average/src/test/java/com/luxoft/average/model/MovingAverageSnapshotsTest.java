@@ -0,0 +1,127 @@
+package com.luxoft.average.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MovingAverageSnapshotsTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@DisplayName("MovingAverageSnapshotsTest class")
+class MovingAverageSnapshotsTest {
+    @DisplayName("Should restore a warm window that keeps rolling as the original one")
+    @Test
+    void shouldRestoreWarmWindowThatKeepsRollingAsOriginal() throws Exception {
+        // given
+        var movingAverages = new MovingAverage[] {
+            RingBufferMovingAverage.of(3, new double[] {1.0, 2.0, 3.0}),
+            CompensatedMovingAverage.of(3, new double[] {1.0, 2.0, 3.0}),
+            WeightedMovingAverage.of(3, new double[] {1.0, 2.0, 3.0}),
+            ExponentialMovingAverage.of(3, new double[] {1.0, 2.0, 3.0}),
+            SimpleMovingAverage.of(3, new double[] {1.0, 2.0, 3.0})
+        };
+
+        for (var movingAverage : movingAverages) {
+            movingAverage.addValue(4.0);
+
+            var buffer = ByteBuffer.allocate(MovingAverageSnapshots.sizeOf(movingAverage));
+
+            // when
+            MovingAverageSnapshots.write(movingAverage, buffer);
+            var restored = MovingAverageSnapshots.read(buffer.flip());
+
+            // then
+            assertThat(restored)
+                .isInstanceOf(movingAverage.getClass());
+
+            assertThat(restored.getAverage())
+                .isEqualTo(movingAverage.getAverage());
+
+            movingAverage.addValue(10.0);
+            restored.addValue(10.0);
+
+            assertThat(restored.getAverage())
+                .isEqualTo(movingAverage.getAverage());
+        }
+    }
+
+    @DisplayName("Should restore a not yet ready moving average")
+    @Test
+    void shouldRestoreNotYetReadyMovingAverage() throws Exception {
+        // given
+        var movingAverage = RingBufferMovingAverage.of(3, new double[] {1.0});
+        var buffer = ByteBuffer.allocate(MovingAverageSnapshots.sizeOf(movingAverage));
+
+        // when
+        MovingAverageSnapshots.write(movingAverage, buffer);
+        var restored = MovingAverageSnapshots.read(buffer.flip());
+
+        // then
+        assertThat(restored.isReady())
+            .isFalse();
+    }
+
+    @DisplayName("Should restore a not yet ready simple moving average that becomes ready as the original one")
+    @Test
+    void shouldRestoreNotYetReadySimpleMovingAverage() throws Exception {
+        // given
+        var movingAverage = SimpleMovingAverage.of(3, new double[] {1.0, 2.0});
+        var buffer = ByteBuffer.allocate(MovingAverageSnapshots.sizeOf(movingAverage));
+
+        // when
+        MovingAverageSnapshots.write(movingAverage, buffer);
+        var restored = MovingAverageSnapshots.read(buffer.flip());
+
+        // then
+        assertThat(buffer.hasRemaining())
+            .isFalse();
+
+        assertThat(restored.isReady())
+            .isFalse();
+
+        restored.addValue(6.0);
+
+        assertThat(restored.getAverage())
+            .isEqualTo(3.0);
+    }
+
+    @DisplayName("Should throw an exception when a snapshot does not fit a byte buffer")
+    @Test
+    void shouldThrowExceptionWhenSnapshotDoesNotFitByteBuffer() throws Exception {
+        // given
+        // a simple moving average does not allocate its window up front
+        var movingAverage = SimpleMovingAverage.of(Integer.MAX_VALUE);
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> MovingAverageSnapshots.sizeOf(movingAverage));
+    }
+
+    @DisplayName("Should throw an exception when an implementation is not supported")
+    @Test
+    void shouldThrowExceptionWhenImplementationIsNotSupported() throws Exception {
+        // given
+        var movingAverage = TimeWindowMovingAverage.of(Duration.ofSeconds(1));
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> MovingAverageSnapshots.sizeOf(movingAverage));
+    }
+
+    @DisplayName("Should throw an exception when a snapshot is broken")
+    @Test
+    void shouldThrowExceptionWhenSnapshotIsBroken() throws Exception {
+        // given
+        var buffer = ByteBuffer.allocate(64);
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> MovingAverageSnapshots.read(buffer));
+    }
+}
@@ -0,0 +1,263 @@
+package com.luxoft.average.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RingBufferMovingAverageTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@DisplayName("RingBufferMovingAverageTest class")
+class RingBufferMovingAverageTest {
+    @DisplayName("Should be initialized with 0 sum when initial data was not passed")
+    @Test
+    void shouldBeInitializedWith0SumWithoutInitialData() throws Exception {
+        // when
+        var ringBufferMovingAverage = RingBufferMovingAverage.of(10);
+
+        // then
+        assertThat(ringBufferMovingAverage.getSum())
+            .isZero();
+    }
+
+    @DisplayName("Should be initialized with some sum when initial data was passed")
+    @Test
+    void shouldBeInitializedWithSumWithInitialData() throws Exception {
+        // given
+        var initialData = new double[] {2.0, 3.0, 5.0};
+        var expectedSum = 10.0;
+
+        // when
+        var ringBufferMovingAverage = RingBufferMovingAverage.of(5, initialData);
+
+        // then
+        assertThat(ringBufferMovingAverage.getSum())
+            .isEqualTo(expectedSum);
+    }
+
+    @DisplayName("Should throw an exception when period is less than passed data count")
+    @Test
+    void shouldThrowExceptionWhenPeriodLessThanPassedDataCount() throws Exception {
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> RingBufferMovingAverage.of(2, new double[] {2.0, 3.0, 5.0}));
+    }
+
+    @DisplayName("Should throw an exception when zero period was passed")
+    @Test
+    void shouldThrowExceptionWhenZeroPeriodWasPassed() throws Exception {
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> RingBufferMovingAverage.of(0));
+    }
+
+    @DisplayName("Should throw an exception when negative period was passed")
+    @Test
+    void shouldThrowExceptionWhenNegativePeriodWasPassed() throws Exception {
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> RingBufferMovingAverage.of(-1));
+    }
+
+    @DisplayName("Should return passed period")
+    @Test
+    void shouldReturnPassedPeriod() throws Exception {
+        // given
+        var expectedPeriod = 10;
+        var ringBufferMovingAverage = RingBufferMovingAverage.of(expectedPeriod);
+
+        // when
+        var period = ringBufferMovingAverage.getPeriod();
+
+        // then
+        assertThat(period)
+            .isEqualTo(expectedPeriod);
+    }
+
+    @DisplayName("Should add a new value when values count is less than period")
+    @Test
+    void shouldAddNewValueWhenValuesCountLessThanPeriod() throws Exception {
+        // given
+        var initialData = new double[] {2.0, 3.0, 5.0};
+        var ringBufferMovingAverage = RingBufferMovingAverage.of(5, initialData);
+        var expectedSumAfterAddingValues = 23.0;
+
+        // when
+        ringBufferMovingAverage.addValue(6.0);
+        ringBufferMovingAverage.addValue(7.0);
+
+        // then
+        assertThat(ringBufferMovingAverage.getSum())
+            .isEqualTo(expectedSumAfterAddingValues);
+    }
+
+    @DisplayName("Should add a new value to sum and sub an old")
+    @Test
+    void shouldAddNewValueToSumAndSubOld() throws Exception {
+        // given
+        var initialData = new double[] {2.0, 3.0, 5.0, 6.0, 7.0};
+        var ringBufferMovingAverage = RingBufferMovingAverage.of(5, initialData);
+        var expectedSumAfterAddingValues = 29.0;
+
+        // when
+        ringBufferMovingAverage.addValue(8.0);
+
+        // then
+        assertThat(ringBufferMovingAverage.getSum())
+            .isEqualTo(expectedSumAfterAddingValues);
+    }
+
+    @DisplayName("Should throw an exception when calculate average with not enough values count")
+    @Test
+    void shouldThrowExceptionWhenCalculateAverageWithNotEnoughValuesCount() throws Exception {
+        // given
+        var initialData = new double[] {2.0, 3.0, 5.0};
+        var ringBufferMovingAverage = RingBufferMovingAverage.of(5, initialData);
+
+        // when / then
+        assertThrows(MovingAverageException.class, ringBufferMovingAverage::getAverage);
+    }
+
+    @DisplayName("Should calculate an average when values count is enough")
+    @Test
+    void shouldCalculateAverageWhenValuesCountIsEnough() throws Exception {
+        // given
+        var initialData = new double[] {4.0, 3.0, 5.0};
+        var ringBufferMovingAverage = RingBufferMovingAverage.of(3, initialData);
+        var expectedAverage = 4.0;
+
+        // when
+        var average = ringBufferMovingAverage.getAverage();
+
+        // then
+        assertThat(average)
+            .isEqualTo(expectedAverage);
+    }
+
+    @DisplayName("Should keep only the last period values when the ring wraps several times")
+    @Test
+    void shouldKeepOnlyLastPeriodValuesWhenRingWraps() throws Exception {
+        // given
+        var ringBufferMovingAverage = RingBufferMovingAverage.of(3, new double[] {1.0, 2.0});
+        var expectedSum = 27.0;
+        var expectedAverage = 9.0;
+
+        // when
+        for (var value = 3.0; value <= 10.0; value++) {
+            ringBufferMovingAverage.addValue(value);
+        }
+
+        // then
+        assertThat(ringBufferMovingAverage.getSum())
+            .isEqualTo(expectedSum);
+
+        assertThat(ringBufferMovingAverage.getAverage())
+            .isEqualTo(expectedAverage);
+    }
+
+    @DisplayName("Should add a range of values in bulk")
+    @Test
+    void shouldAddRangeOfValuesInBulk() throws Exception {
+        // given
+        var ringBufferMovingAverage = RingBufferMovingAverage.of(3);
+        var values = new double[] {100.0, 1.0, 2.0, 3.0, 4.0, 100.0};
+        var expectedSum = 9.0;
+
+        // when
+        ringBufferMovingAverage.addValues(values, 1, 4);
+
+        // then
+        assertThat(ringBufferMovingAverage.getSum())
+            .isEqualTo(expectedSum);
+    }
+
+    @DisplayName("Should throw an exception when a bulk range is out of bounds")
+    @Test
+    void shouldThrowExceptionWhenBulkRangeIsOutOfBounds() throws Exception {
+        // given
+        var ringBufferMovingAverage = RingBufferMovingAverage.of(3);
+
+        // when / then
+        assertThrows(IndexOutOfBoundsException.class, () -> ringBufferMovingAverage.addValues(new double[2], 1, 2));
+    }
+
+    @DisplayName("Should add all remaining values of a direct buffer")
+    @Test
+    void shouldAddAllRemainingValuesOfDirectBuffer() throws Exception {
+        // given
+        var ringBufferMovingAverage = RingBufferMovingAverage.of(2);
+        DoubleBuffer buffer = ByteBuffer.allocateDirect(3 * Double.BYTES).asDoubleBuffer();
+        buffer.put(new double[] {1.0, 2.0, 4.0}).flip();
+
+        var expectedAverage = 3.0;
+
+        // when
+        ringBufferMovingAverage.addValues(buffer);
+
+        // then
+        assertThat(buffer.hasRemaining())
+            .isFalse();
+
+        assertThat(ringBufferMovingAverage.getAverage())
+            .isEqualTo(expectedAverage);
+    }
+
+    @DisplayName("Should write a rolling average for every position")
+    @Test
+    void shouldWriteRollingAverageForEveryPosition() throws Exception {
+        // given
+        var ringBufferMovingAverage = RingBufferMovingAverage.of(2, new double[] {1.0});
+        var values = new double[] {3.0, 5.0, 7.0};
+        var averages = new double[values.length];
+
+        // when
+        ringBufferMovingAverage.averages(values, averages);
+
+        // then
+        assertThat(averages)
+            .containsExactly(2.0, 4.0, 6.0);
+    }
+
+    @DisplayName("Should return NaN instead of throwing while values are not enough")
+    @Test
+    void shouldReturnNaNInsteadOfThrowingWhileValuesAreNotEnough() throws Exception {
+        // given
+        var ringBufferMovingAverage = RingBufferMovingAverage.of(3, new double[] {4.0, 3.0});
+
+        // when / then
+        assertThat(ringBufferMovingAverage.isReady())
+            .isFalse();
+
+        assertThat(ringBufferMovingAverage.getAverageOrNaN())
+            .isNaN();
+
+        ringBufferMovingAverage.addValue(5.0);
+
+        assertThat(ringBufferMovingAverage.isReady())
+            .isTrue();
+
+        assertThat(ringBufferMovingAverage.getAverageOrNaN())
+            .isEqualTo(4.0);
+    }
+
+    @DisplayName("Should drop an accumulated error when the window is re-summed")
+    @Test
+    void shouldDropAccumulatedErrorWhenWindowIsResummed() throws Exception {
+        // given
+        var ringBufferMovingAverage = RingBufferMovingAverage.of(3, new double[] {1e17, 1.0, 1.0});
+        ringBufferMovingAverage.addValue(1.0);
+
+        // when
+        ringBufferMovingAverage.resum();
+
+        // then
+        assertThat(ringBufferMovingAverage.getSum())
+            .isEqualTo(3.0);
+    }
+}
@@ -0,0 +1,135 @@
+package com.luxoft.average.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RollingStatisticsTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@DisplayName("RollingStatisticsTest class")
+class RollingStatisticsTest {
+    @DisplayName("Should throw an exception when zero period was passed")
+    @Test
+    void shouldThrowExceptionWhenZeroPeriodWasPassed() throws Exception {
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> RollingStatistics.of(0));
+    }
+
+    @DisplayName("Should throw an exception when get statistics with not enough values count")
+    @Test
+    void shouldThrowExceptionWhenGetStatisticsWithNotEnoughValuesCount() throws Exception {
+        // given
+        var rollingStatistics = RollingStatistics.of(3);
+        rollingStatistics.addValue(1.0);
+
+        // when / then
+        assertThrows(MovingAverageException.class, rollingStatistics::getMin);
+        assertThrows(MovingAverageException.class, rollingStatistics::getVariance);
+    }
+
+    @DisplayName("Should calculate statistics of the last period values only")
+    @Test
+    void shouldCalculateStatisticsOfLastPeriodValuesOnly() throws Exception {
+        // given
+        var rollingStatistics = RollingStatistics.of(4);
+
+        // when
+        for (var value : new double[] {100.0, -100.0, 2.0, 4.0, 4.0, 6.0}) {
+            rollingStatistics.addValue(value);
+        }
+
+        // then
+        assertThat(rollingStatistics.getMin())
+            .isEqualTo(2.0);
+
+        assertThat(rollingStatistics.getMax())
+            .isEqualTo(6.0);
+
+        assertThat(rollingStatistics.getAverage())
+            .isCloseTo(4.0, within(1e-9));
+
+        assertThat(rollingStatistics.getVariance())
+            .isCloseTo(2.0, within(1e-9));
+    }
+
+    @DisplayName("Should match a full window rescan over a long stream")
+    @Test
+    void shouldMatchFullWindowRescanOverLongStream() throws Exception {
+        // given
+        var period = 500;
+        var rollingStatistics = RollingStatistics.of(period);
+
+        var values = new double[10_000];
+        var random = new Random(42);
+        for (var i = 0; i < values.length; i++) {
+            values[i] = (random.nextDouble() - 0.3) * 1000.0;
+        }
+
+        // when
+        rollingStatistics.addValues(values, 0, values.length);
+
+        // then
+        var window = Arrays.copyOfRange(values, values.length - period, values.length);
+        var sortedWindow = window.clone();
+        Arrays.sort(sortedWindow);
+
+        var mean = Arrays.stream(window).average().orElseThrow();
+        var variance = Arrays.stream(window).map(value -> (value - mean) * (value - mean)).sum() / period;
+        var p99 = sortedWindow[(int) (0.99 * (period - 1))];
+
+        assertThat(rollingStatistics.getMin())
+            .isEqualTo(sortedWindow[0]);
+
+        assertThat(rollingStatistics.getMax())
+            .isEqualTo(sortedWindow[period - 1]);
+
+        assertThat(rollingStatistics.getAverage())
+            .isCloseTo(mean, within(1e-6));
+
+        assertThat(rollingStatistics.getVariance())
+            .isCloseTo(variance, within(1e-3));
+
+        assertThat(rollingStatistics.getQuantile(0.99))
+            .isCloseTo(p99, within(Math.abs(p99) * 0.02));
+    }
+
+    @DisplayName("Should estimate quantiles when magnitudes spread over many orders in both signs")
+    @Test
+    void shouldEstimateQuantilesWhenMagnitudesSpreadOverManyOrders() throws Exception {
+        // given
+        var period = 1_000;
+        var rollingStatistics = RollingStatistics.of(period);
+
+        // the magnitudes first grow and then shrink, so the buckets are widened in both directions
+        var values = new double[period];
+        for (var i = 0; i < values.length; i++) {
+            var magnitude = Math.pow(10.0, (i % 200) / 10.0 - 8.0);
+            values[i] = i % 3 == 0 ? -magnitude : magnitude;
+        }
+
+        // when
+        rollingStatistics.addValues(values, 0, values.length);
+
+        // then
+        var sortedWindow = values.clone();
+        Arrays.sort(sortedWindow);
+
+        for (var quantile : new double[] {0.0, 0.01, 0.25, 0.5, 0.75, 0.99, 1.0}) {
+            var expected = sortedWindow[(int) (quantile * (period - 1))];
+
+            assertThat(rollingStatistics.getQuantile(quantile))
+                .isCloseTo(expected, within(Math.abs(expected) * 0.02));
+        }
+    }
+}
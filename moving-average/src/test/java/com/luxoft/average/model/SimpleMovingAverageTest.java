@@ -136,4 +136,42 @@ class SimpleMovingAverageTest {
         assertThat(average)
             .isEqualTo(expectedAverage);
     }
+
+    @DisplayName("Should write NaN averages while values are not enough")
+    @Test
+    void shouldWriteNaNAveragesWhileValuesAreNotEnough() throws Exception {
+        // given
+        var simpleMovingAverage = SimpleMovingAverage.of(3);
+        var values = new double[] {3.0, 6.0, 9.0, 12.0};
+        var averages = new double[values.length];
+
+        // when
+        simpleMovingAverage.averages(values, averages);
+
+        // then
+        assertThat(averages)
+            .containsExactly(Double.NaN, Double.NaN, 6.0, 9.0);
+    }
+
+    @DisplayName("Should return NaN instead of throwing while values are not enough")
+    @Test
+    void shouldReturnNaNInsteadOfThrowingWhileValuesAreNotEnough() throws Exception {
+        // given
+        var simpleMovingAverage = SimpleMovingAverage.of(3, new double[] {4.0, 3.0});
+
+        // when / then
+        assertThat(simpleMovingAverage.isReady())
+            .isFalse();
+
+        assertThat(simpleMovingAverage.getAverageOrNaN())
+            .isNaN();
+
+        simpleMovingAverage.addValue(5.0);
+
+        assertThat(simpleMovingAverage.isReady())
+            .isTrue();
+
+        assertThat(simpleMovingAverage.getAverageOrNaN())
+            .isEqualTo(4.0);
+    }
 }
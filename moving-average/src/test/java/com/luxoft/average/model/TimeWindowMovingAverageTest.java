@@ -0,0 +1,105 @@
+package com.luxoft.average.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TimeWindowMovingAverageTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@DisplayName("TimeWindowMovingAverageTest class")
+class TimeWindowMovingAverageTest {
+    @DisplayName("Should throw an exception when zero window was passed")
+    @Test
+    void shouldThrowExceptionWhenZeroWindowWasPassed() throws Exception {
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> TimeWindowMovingAverage.of(Duration.ZERO, () -> 0L));
+    }
+
+    @DisplayName("Should throw an exception when a window shorter than a millisecond was passed")
+    @Test
+    void shouldThrowExceptionWhenSubMillisecondWindowWasPassed() throws Exception {
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> TimeWindowMovingAverage.of(Duration.ofNanos(999_999), () -> 0L));
+    }
+
+    @DisplayName("Should not be a periodic moving average")
+    @Test
+    void shouldNotBePeriodicMovingAverage() throws Exception {
+        // given
+        MovingAverage movingAverage = TimeWindowMovingAverage.of(Duration.ofSeconds(60), () -> 0L);
+
+        // when / then
+        assertThat(movingAverage instanceof PeriodicMovingAverage).isFalse();
+    }
+
+    @DisplayName("Should throw an exception when calculate average without values in the window")
+    @Test
+    void shouldThrowExceptionWhenCalculateAverageWithoutValuesInWindow() throws Exception {
+        // given
+        var timeWindowMovingAverage = TimeWindowMovingAverage.of(Duration.ofSeconds(60), () -> 0L);
+
+        // when / then
+        assertThrows(MovingAverageException.class, timeWindowMovingAverage::getAverage);
+    }
+
+    @DisplayName("Should average only values added during the window")
+    @Test
+    void shouldAverageOnlyValuesAddedDuringWindow() throws Exception {
+        // given
+        var now = new long[] {0L};
+        var timeWindowMovingAverage = TimeWindowMovingAverage.of(Duration.ofSeconds(60), () -> now[0]);
+
+        timeWindowMovingAverage.addValue(100.0);
+
+        now[0] = 30_000L;
+        timeWindowMovingAverage.addValue(2.0);
+
+        now[0] = 50_000L;
+        timeWindowMovingAverage.addValue(4.0);
+
+        // when
+        now[0] = 60_000L;
+        var average = timeWindowMovingAverage.getAverage();
+
+        // then
+        assertThat(average)
+            .isEqualTo(3.0);
+
+        assertThat(timeWindowMovingAverage.getSize())
+            .isEqualTo(2);
+    }
+
+    @DisplayName("Should keep a burst of values bigger than the initial capacity")
+    @Test
+    void shouldKeepBurstBiggerThanInitialCapacity() throws Exception {
+        // given
+        var now = new long[] {0L};
+        var timeWindowMovingAverage = TimeWindowMovingAverage.of(Duration.ofSeconds(1), () -> now[0], 2);
+
+        timeWindowMovingAverage.addValue(1000.0);
+        now[0] = 500L;
+
+        // when
+        for (var i = 1; i <= 10; i++) {
+            timeWindowMovingAverage.addValue(i);
+        }
+
+        now[0] = 1000L;
+
+        // then
+        assertThat(timeWindowMovingAverage.getSize())
+            .isEqualTo(10);
+
+        assertThat(timeWindowMovingAverage.getSum())
+            .isEqualTo(55.0);
+    }
+}
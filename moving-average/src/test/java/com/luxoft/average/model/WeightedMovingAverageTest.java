@@ -0,0 +1,81 @@
+package com.luxoft.average.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WeightedMovingAverageTest class
+ *
+ * @author  Nikolai Osipov <nao99.dev@gmail.com>
+ * @version 1.0.0
+ * @since   2026-10-18
+ */
+@DisplayName("WeightedMovingAverageTest class")
+class WeightedMovingAverageTest {
+    @DisplayName("Should throw an exception when period is less than passed data count")
+    @Test
+    void shouldThrowExceptionWhenPeriodLessThanPassedDataCount() throws Exception {
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> WeightedMovingAverage.of(2, new double[] {2.0, 3.0, 5.0}));
+    }
+
+    @DisplayName("Should throw an exception when calculate average with not enough values count")
+    @Test
+    void shouldThrowExceptionWhenCalculateAverageWithNotEnoughValuesCount() throws Exception {
+        // given
+        var weightedMovingAverage = WeightedMovingAverage.of(3, new double[] {1.0, 2.0});
+
+        // when / then
+        assertThrows(MovingAverageException.class, weightedMovingAverage::getAverage);
+    }
+
+    @DisplayName("Should give the newest value the biggest weight")
+    @Test
+    void shouldGiveNewestValueBiggestWeight() throws Exception {
+        // given
+        var weightedMovingAverage = WeightedMovingAverage.of(3, new double[] {1.0, 2.0, 3.0});
+        var expectedWeightedSum = 20.0;
+
+        // when
+        weightedMovingAverage.addValue(4.0);
+
+        // then
+        assertThat(weightedMovingAverage.getWeightedSum())
+            .isEqualTo(expectedWeightedSum);
+
+        assertThat(weightedMovingAverage.getAverage())
+            .isEqualTo(expectedWeightedSum / 6.0);
+    }
+
+    @DisplayName("Should match a full window rescan")
+    @Test
+    void shouldMatchFullWindowRescan() throws Exception {
+        // given
+        var period = 7;
+        var weightedMovingAverage = WeightedMovingAverage.of(period);
+        var values = new double[100];
+
+        var random = new Random(42);
+        for (var i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * 100.0;
+        }
+
+        // when
+        weightedMovingAverage.addValues(values, 0, values.length);
+
+        // then
+        var weightedSum = 0.0;
+        for (var weight = 1; weight <= period; weight++) {
+            weightedSum += weight * values[values.length - period + weight - 1];
+        }
+
+        assertThat(weightedMovingAverage.getAverage())
+            .isCloseTo(weightedSum / (period * (period + 1) / 2.0), within(1e-9));
+    }
+}